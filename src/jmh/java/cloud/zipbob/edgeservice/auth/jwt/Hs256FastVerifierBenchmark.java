@@ -0,0 +1,55 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Hs256FastVerifierBenchmark {
+
+    private Hs256FastVerifier fastVerifier;
+    private JwtParser jwtParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        Key key = Keys.hmacShaKeyFor("benchmark-secret-key-that-is-long-enough-for-hs256-signing"
+                .getBytes(StandardCharsets.UTF_8));
+        token = Jwts.builder()
+                .claim("memberId", 1L)
+                .claim("role", "ROLE_USER")
+                .setSubject("benchmark@zipbob.cloud")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .setIssuedAt(new Date())
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        fastVerifier = new Hs256FastVerifier(key.getEncoded(), token.substring(0, token.indexOf('.')),
+                List.of("ROLE_GUEST", "ROLE_USER"));
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    @Benchmark
+    public long fastPath() {
+        return fastVerifier.verify(token).memberId();
+    }
+
+    @Benchmark
+    public Object jjwt() {
+        return jwtParser.parseClaimsJws(token).getBody().get("memberId");
+    }
+}
@@ -0,0 +1,56 @@
+package cloud.zipbob.edgeservice.global.redis.codec;
+
+import cloud.zipbob.edgeservice.domain.member.response.MyInfoResponse;
+import cloud.zipbob.edgeservice.domain.member.response.MyInfoResponseCodec;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisValueSerializerBenchmark {
+
+    private GenericJackson2JsonRedisSerializer json;
+    private CompactRedisSerializer compact;
+    private MyInfoResponse response;
+    private byte[] jsonBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+        json = new GenericJackson2JsonRedisSerializer();
+        compact = new CompactRedisSerializer(List.of(new MyInfoResponseCodec()),
+                RedisCodecProperties.WriteFormat.COMPACT);
+        response = new MyInfoResponse(1L, "benchmark@zipbob.cloud", "benchmark");
+        jsonBytes = json.serialize(response);
+        compactBytes = compact.serialize(response);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return json.serialize(response);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compact.serialize(response);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return compact.deserialize(compactBytes);
+    }
+}
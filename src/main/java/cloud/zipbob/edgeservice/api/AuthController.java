@@ -1,6 +1,7 @@
 package cloud.zipbob.edgeservice.api;
 
 import cloud.zipbob.edgeservice.auth.AuthService;
+import cloud.zipbob.edgeservice.auth.ReissueCoalescer;
 import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProvider;
 import cloud.zipbob.edgeservice.global.Responder;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,11 +19,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
     private final AuthService authService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ReissueCoalescer reissueCoalescer;
 
     @PatchMapping("/reissue")
     public ResponseEntity<String> reissue(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = jwtTokenProvider.resolveRefreshToken(request);
-        String newAccessToken = authService.reissueAccessToken(refreshToken);
+        String newAccessToken = reissueCoalescer.reissue(refreshToken, authService::reissueAccessToken);
         jwtTokenProvider.accessTokenSetHeader(newAccessToken, response);
         return Responder.success("토큰 재발급이 완료되었습니다.");
     }
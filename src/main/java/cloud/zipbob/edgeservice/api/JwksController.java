@@ -0,0 +1,26 @@
+package cloud.zipbob.edgeservice.api;
+
+import cloud.zipbob.edgeservice.auth.jwt.JsonWebKeySet;
+import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final JsonWebKeySet jsonWebKeySet;
+    private final JwtTokenProperties jwtTokenProperties;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        JsonWebKeySet.Document document = jsonWebKeySet.current();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwtTokenProperties.getSigning().getJwksMaxAge()).cachePublic())
+                .eTag(document.eTag())
+                .body(document.json());
+    }
+}
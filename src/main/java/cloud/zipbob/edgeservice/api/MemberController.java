@@ -1,5 +1,6 @@
 package cloud.zipbob.edgeservice.api;
 
+import cloud.zipbob.edgeservice.auth.MemberEmailResolver;
 import cloud.zipbob.edgeservice.auth.PrincipalDetails;
 import cloud.zipbob.edgeservice.domain.member.request.MemberUpdateRequest;
 import cloud.zipbob.edgeservice.domain.member.request.MemberWithdrawRequest;
@@ -11,6 +12,7 @@ import cloud.zipbob.edgeservice.domain.member.response.OAuth2JoinResponse;
 import cloud.zipbob.edgeservice.domain.member.service.MemberService;
 import cloud.zipbob.edgeservice.global.Responder;
 import cloud.zipbob.edgeservice.global.email.EmailService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,12 +26,13 @@ public class MemberController {
 
     private final MemberService memberService;
     private final EmailService emailService;
+    private final MemberEmailResolver memberEmailResolver;
 
     @PatchMapping("/update")
     @PreAuthorize("hasAnyAuthority('ROLE_USER', 'ROLE_ADMIN')")
     public ResponseEntity<MemberUpdateResponse> update(@AuthenticationPrincipal PrincipalDetails user,
                                                        @RequestBody final MemberUpdateRequest request) {
-        MemberUpdateResponse response = memberService.update(request, user.getUsername());
+        MemberUpdateResponse response = memberService.update(request, memberEmailResolver.emailOf(user));
         return Responder.success(response);
     }
 
@@ -37,8 +40,9 @@ public class MemberController {
     @PreAuthorize("hasAnyAuthority('ROLE_GUEST')")
     public ResponseEntity<OAuth2JoinResponse> join(@AuthenticationPrincipal PrincipalDetails user,
                                                    @RequestBody final OAuth2JoinRequest request) {
-        OAuth2JoinResponse response = memberService.oauth2Join(request, user.getUsername());
-        emailService.sendEmailRequest(user.getUsername(), request.nickname(), "welcome");
+        String email = memberEmailResolver.emailOf(user);
+        OAuth2JoinResponse response = memberService.oauth2Join(request, email);
+        emailService.sendEmailRequest(email, request.nickname(), "welcome");
         return Responder.success(response);
     }
 
@@ -46,15 +50,16 @@ public class MemberController {
     @PreAuthorize("hasAnyAuthority('ROLE_USER', 'ROLE_ADMIN')")
     public ResponseEntity<MemberWithdrawResponse> withdraw(@AuthenticationPrincipal PrincipalDetails user,
                                                            @RequestBody final MemberWithdrawRequest request) {
-        MemberWithdrawResponse response = memberService.withdraw(request, user.getUsername());
-        emailService.sendEmailRequest(user.getUsername(), request.nickname(), "goodbye");
+        String email = memberEmailResolver.emailOf(user);
+        MemberWithdrawResponse response = memberService.withdraw(request, email);
+        emailService.sendEmailRequest(email, request.nickname(), "goodbye");
         return Responder.success(response);
     }
 
     @GetMapping("/myInfo")
     @PreAuthorize("hasAnyAuthority('ROLE_USER', 'ROLE_ADMIN')")
     public ResponseEntity<MyInfoResponse> myInfo(@AuthenticationPrincipal PrincipalDetails user) {
-        MyInfoResponse response = memberService.getMyInfo(user.getUsername());
+        MyInfoResponse response = memberService.getMyInfo(memberEmailResolver.emailOf(user));
         return Responder.success(response);
     }
 
@@ -63,4 +68,11 @@ public class MemberController {
         boolean result = memberService.checkNickname(nickname);
         return Responder.success(result);
     }
+
+    @GetMapping("/nickname-suggest/{prefix}")
+    public ResponseEntity<List<String>> suggestNickname(@PathVariable("prefix") String prefix,
+                                                        @RequestParam(value = "size", defaultValue = "5") int size) {
+        List<String> result = memberService.suggestNicknames(prefix, size);
+        return Responder.success(result);
+    }
 }
@@ -1,13 +1,17 @@
 package cloud.zipbob.edgeservice.auth;
 
+import cloud.zipbob.edgeservice.auth.RefreshTokenStore.RefreshTokenRecord;
+import cloud.zipbob.edgeservice.auth.ReissueCoalescer.ReissuedToken;
 import cloud.zipbob.edgeservice.auth.dto.TokenDto;
 import cloud.zipbob.edgeservice.auth.exception.TokenException;
 import cloud.zipbob.edgeservice.auth.exception.TokenExceptionType;
 import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProperties;
 import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProvider;
-import cloud.zipbob.edgeservice.domain.member.Member;
+import cloud.zipbob.edgeservice.auth.jwt.RevokedTokenRegistry;
+import cloud.zipbob.edgeservice.auth.jwt.TokenGenerations;
 import cloud.zipbob.edgeservice.domain.member.exception.MemberException;
 import cloud.zipbob.edgeservice.domain.member.exception.MemberExceptionType;
+import cloud.zipbob.edgeservice.domain.member.repository.MemberAuthView;
 import cloud.zipbob.edgeservice.domain.member.repository.MemberRepository;
 import cloud.zipbob.edgeservice.global.redis.RedisService;
 import io.jsonwebtoken.Claims;
@@ -17,6 +21,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -27,38 +33,90 @@ public class AuthService {
     private final JwtTokenProperties jwtTokenProperties;
     private final RedisService redisService;
     private final MemberRepository memberRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenGenerations tokenGenerations;
+    private final ReissueCoalescer reissueCoalescer;
 
-    public String reissueAccessToken(String refreshToken) {
+    @Transactional(readOnly = true)
+    public ReissuedToken reissueAccessToken(String refreshToken) {
         Claims claims = jwtTokenProvider.parseClaims(refreshToken);
         String email = claims.getSubject();
+        Optional<RefreshTokenRecord> record = refreshTokenStore.find(email);
+        if (record.isPresent()) {
+            return reissueFromRecord(refreshToken, email, record.get());
+        }
+
         String redisRefreshToken = redisService.getValues(email);
 
         if (redisService.checkExistsValue(redisRefreshToken) && refreshToken.equals(redisRefreshToken)) {
-            Member findMember = this.findMemberByEmail(email);
-            PrincipalDetails principalDetails = PrincipalDetails.of(findMember);
-            TokenDto tokenDto = jwtTokenProvider.generateTokenDto(principalDetails);
-            return tokenDto.getAccessToken();
+            MemberAuthView findMember = this.findMemberByEmail(email);
+            PrincipalDetails principalDetails =
+                    PrincipalDetails.of(findMember.id(), findMember.email(), findMember.role().getKey());
+            long generation = tokenGenerations.current(findMember.id());
+            TokenDto tokenDto = jwtTokenProvider.generateTokenDto(principalDetails, generation);
+            refreshTokenStore.save(email, new RefreshTokenRecord(refreshToken, findMember.id(),
+                    findMember.role().getKey(), generation), remainingLifetime(claims));
+            redisService.deleteValues(email);
+            return new ReissuedToken(tokenDto.getAccessToken(), findMember.id(), generation);
         } else {
             log.debug("ReissueAccessToken exception occur redisRefreshToken: {}", redisRefreshToken);
             throw new TokenException(TokenExceptionType.TOKEN_INVALID);
         }
     }
 
+    private ReissuedToken reissueFromRecord(String refreshToken, String email, RefreshTokenRecord record) {
+        if (!refreshToken.equals(record.token())
+                || !tokenGenerations.isCurrent(record.memberId(), record.generation())) {
+            log.debug("ReissueAccessToken exception occur refresh token record of {} does not match", email);
+            throw new TokenException(TokenExceptionType.TOKEN_INVALID);
+        }
+        PrincipalDetails principalDetails = PrincipalDetails.of(record.memberId(), email, record.role());
+        return new ReissuedToken(jwtTokenProvider.generateTokenDto(principalDetails, record.generation())
+                .getAccessToken(), record.memberId(), record.generation());
+    }
+
     public void logout(String refreshToken, String accessToken) {
         Claims claims = jwtTokenProvider.parseClaims(refreshToken);
         String email = claims.getSubject();
+        reissueCoalescer.invalidate(refreshToken);
+        if (refreshTokenStore.delete(email)) {
+            revokeAccessToken(accessToken);
+            return;
+        }
         String redisRefreshToken = redisService.getValues(email);
         if (redisService.checkExistsValue(redisRefreshToken)) {
             redisService.deleteValues(email);
-            long accessTokenExpirationMillis = jwtTokenProperties.getAccessExpiration();
-            redisService.setValues(accessToken, "logout", Duration.ofMillis(accessTokenExpirationMillis));
+            revokeAccessToken(accessToken);
         } else {
             throw new TokenException(TokenExceptionType.TOKEN_INVALID);
         }
     }
 
-    private Member findMemberByEmail(String email) {
-        return memberRepository.findByEmail(email)
+    private void revokeAccessToken(String accessToken) {
+        Claims accessTokenClaims = jwtTokenProvider.parseClaims(accessToken);
+        revokedTokenRegistry.revoke(jwtTokenProvider.tokenId(accessTokenClaims, accessToken),
+                accessTokenExpiresAt(accessTokenClaims));
+    }
+
+    private long accessTokenExpiresAt(Claims accessTokenClaims) {
+        Date expiration = accessTokenClaims.getExpiration();
+        if (expiration != null) {
+            return expiration.getTime();
+        }
+        return System.currentTimeMillis() + jwtTokenProperties.getAccessExpiration();
+    }
+
+    private Duration remainingLifetime(Claims refreshTokenClaims) {
+        Date expiration = refreshTokenClaims.getExpiration();
+        if (expiration == null) {
+            return Duration.ofMillis(jwtTokenProperties.getRefreshExpiration());
+        }
+        return Duration.ofMillis(Math.max(1, expiration.getTime() - System.currentTimeMillis()));
+    }
+
+    private MemberAuthView findMemberByEmail(String email) {
+        return memberRepository.findAuthViewByEmail(email)
                 .orElseThrow(() -> new MemberException(MemberExceptionType.MEMBER_NOT_FOUND));
     }
 }
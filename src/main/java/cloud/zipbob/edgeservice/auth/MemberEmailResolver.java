@@ -0,0 +1,38 @@
+package cloud.zipbob.edgeservice.auth;
+
+import cloud.zipbob.edgeservice.domain.member.exception.MemberException;
+import cloud.zipbob.edgeservice.domain.member.exception.MemberExceptionType;
+import cloud.zipbob.edgeservice.domain.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+/**
+ * compact 프로필 access token은 email을 싣지 않으므로, email이 필요한 요청에서만 회원 id로 찾는다.
+ * 회원의 email은 바뀌지 않으므로 찾은 값은 로컬에 보관한다.
+ */
+@Component
+public class MemberEmailResolver {
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private final MemberRepository memberRepository;
+    private final Cache<Long, String> emails = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    public MemberEmailResolver(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    public String emailOf(PrincipalDetails principal) {
+        if (principal.getUsername() != null) {
+            return principal.getUsername();
+        }
+        return emails.get(principal.getId(), this::load);
+    }
+
+    private String load(Long memberId) {
+        return memberRepository.findEmailById(memberId)
+                .orElseThrow(() -> new MemberException(MemberExceptionType.MEMBER_NOT_FOUND));
+    }
+}
@@ -0,0 +1,75 @@
+package cloud.zipbob.edgeservice.auth;
+
+import cloud.zipbob.edgeservice.global.redis.RedisClientSideCache;
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * refresh token과 재발급에 필요한 principal 정보(id, role, 세대)를 Redis hash 하나에 보관한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+    static final String KEY_PREFIX = "refresh:";
+    private static final String TOKEN = "token";
+    private static final String MEMBER_ID = "memberId";
+    private static final String ROLE = "role";
+    private static final String GENERATION = "gen";
+
+    private static final DefaultRedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'token', ARGV[1], 'memberId', ARGV[2], 'role', ARGV[3], 'gen', ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    private final RedisRoundTrips redisRoundTrips;
+    private final RedisClientSideCache redisClientSideCache;
+
+    public void save(String email, RefreshTokenRecord record, Duration ttl) {
+        redisRoundTrips.script(SAVE_SCRIPT, List.of(KEY_PREFIX + email), record.token(),
+                String.valueOf(record.memberId()), record.role(), String.valueOf(record.generation()),
+                String.valueOf(ttl.toMillis()));
+    }
+
+    public Optional<RefreshTokenRecord> find(String email) {
+        Map<?, ?> fields = entries(KEY_PREFIX + email);
+        if (fields == null || fields.get(TOKEN) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new RefreshTokenRecord(
+                text(fields.get(TOKEN)),
+                Long.parseLong(text(fields.get(MEMBER_ID))),
+                text(fields.get(ROLE)),
+                Long.parseLong(text(fields.get(GENERATION)))));
+    }
+
+    public static String key(String email) {
+        return KEY_PREFIX + email;
+    }
+
+    public boolean delete(String email) {
+        return Boolean.TRUE.equals(redisRoundTrips.call(redis -> redis.delete(KEY_PREFIX + email)));
+    }
+
+    private Map<?, ?> entries(String key) {
+        if (redisClientSideCache.tracks(key)) {
+            return redisClientSideCache.hgetall(key);
+        }
+        return redisRoundTrips.call(redis -> redis.opsForHash().entries(key));
+    }
+
+    private static String text(Object value) {
+        return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : (String) value;
+    }
+
+    public record RefreshTokenRecord(String token, long memberId, String role, long generation) {
+    }
+}
@@ -0,0 +1,154 @@
+package cloud.zipbob.edgeservice.auth;
+
+import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProperties;
+import cloud.zipbob.edgeservice.auth.jwt.TokenDigests;
+import cloud.zipbob.edgeservice.auth.jwt.TokenGenerations;
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import cloud.zipbob.edgeservice.global.redis.RedisUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 같은 refresh token으로 동시에 들어온 재발급 요청을 하나로 합친다.
+ * 인스턴스 안에서는 진행 중인 요청의 결과를 공유하고, 인스턴스 간에는 짧게 보관한 Redis 결과를 재사용한다.
+ * Redis 결과에는 발급 당시의 회원 id와 토큰 세대를 함께 저장해, 그 사이 세션이 폐기되었으면 재사용하지 않는다.
+ */
+@Slf4j
+@Component
+public class ReissueCoalescer {
+    static final String RESULT_KEY_PREFIX = "reissue:";
+    private static final char SEPARATOR = ':';
+    private static final String METRIC_NAME = "auth.reissue";
+
+    private final RedisRoundTrips redisRoundTrips;
+    private final JwtTokenProperties jwtTokenProperties;
+    private final TokenGenerations tokenGenerations;
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalescedLocal;
+    private final Counter coalescedRedis;
+
+    public ReissueCoalescer(RedisRoundTrips redisRoundTrips, JwtTokenProperties jwtTokenProperties,
+                            TokenGenerations tokenGenerations, MeterRegistry meterRegistry) {
+        this.redisRoundTrips = redisRoundTrips;
+        this.jwtTokenProperties = jwtTokenProperties;
+        this.tokenGenerations = tokenGenerations;
+        this.executed = meterRegistry.counter(METRIC_NAME, "result", "executed");
+        this.coalescedLocal = meterRegistry.counter(METRIC_NAME, "result", "coalesced_local");
+        this.coalescedRedis = meterRegistry.counter(METRIC_NAME, "result", "coalesced_redis");
+    }
+
+    public String reissue(String refreshToken, Function<String, ReissuedToken> reissuer) {
+        if (!StringUtils.hasText(refreshToken)) {
+            return reissuer.apply(refreshToken).accessToken();
+        }
+        String tokenDigest = TokenDigests.sha256(refreshToken);
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(tokenDigest, flight);
+        if (existing != null) {
+            coalescedLocal.increment();
+            return await(existing);
+        }
+        try {
+            String accessToken = reissueOnce(tokenDigest, refreshToken, reissuer);
+            flight.complete(accessToken);
+            return accessToken;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(tokenDigest, flight);
+        }
+    }
+
+    public void invalidate(String refreshToken) {
+        if (StringUtils.hasText(refreshToken)) {
+            String resultKey = RESULT_KEY_PREFIX + TokenDigests.sha256(refreshToken);
+            redisRoundTrips.call(redis -> redis.delete(resultKey));
+        }
+    }
+
+    private String reissueOnce(String tokenDigest, String refreshToken,
+                               Function<String, ReissuedToken> reissuer) {
+        String resultKey = RESULT_KEY_PREFIX + tokenDigest;
+        ReissuedToken cached = cachedResult(resultKey);
+        if (cached != null) {
+            if (tokenGenerations.isCurrent(cached.memberId(), cached.generation())) {
+                coalescedRedis.increment();
+                return cached.accessToken();
+            }
+            discard(resultKey);
+        }
+        ReissuedToken reissued = reissuer.apply(refreshToken);
+        executed.increment();
+        try {
+            redisRoundTrips.call(redis -> redis.opsForValue().setIfAbsent(resultKey, reissued.encode(),
+                    jwtTokenProperties.getReissue().getResultTtl()));
+        } catch (RedisUnavailableException e) {
+            log.debug("Skipped storing reissue result : {}", e.getMessage());
+        }
+        return reissued.accessToken();
+    }
+
+    private ReissuedToken cachedResult(String resultKey) {
+        String value;
+        try {
+            value = redisRoundTrips.call(redis -> redis.opsForValue().get(resultKey));
+        } catch (RedisUnavailableException e) {
+            log.debug("Skipped reading reissue result : {}", e.getMessage());
+            return null;
+        }
+        return value != null ? ReissuedToken.decode(value) : null;
+    }
+
+    private void discard(String resultKey) {
+        try {
+            redisRoundTrips.call(redis -> redis.delete(resultKey));
+        } catch (RedisUnavailableException e) {
+            log.debug("Skipped discarding stale reissue result : {}", e.getMessage());
+        }
+    }
+
+    private static String await(CompletableFuture<String> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 재발급 결과. Redis에는 {@code memberId:generation:accessToken} 형태로 저장한다.
+     */
+    public record ReissuedToken(String accessToken, long memberId, long generation) {
+
+        private String encode() {
+            return String.valueOf(memberId) + SEPARATOR + generation + SEPARATOR + accessToken;
+        }
+
+        private static ReissuedToken decode(String value) {
+            int first = value.indexOf(SEPARATOR);
+            int second = first < 0 ? -1 : value.indexOf(SEPARATOR, first + 1);
+            if (second < 0) {
+                return null;
+            }
+            try {
+                return new ReissuedToken(value.substring(second + 1), Long.parseLong(value.substring(0, first)),
+                        Long.parseLong(value.substring(first + 1, second)));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -17,7 +17,8 @@ import java.util.List;
 @Slf4j
 public class AddMemberIdHeaderFilter implements Filter {
 
-    private static final List<String> EXCLUDED_PATHS = List.of("/auth/reissue", "/members/nickname-check", "/bus/refresh");
+    private static final List<String> EXCLUDED_PATHS = List.of("/auth/reissue", "/members/nickname-check",
+            "/members/nickname-suggest", "/bus/refresh");
 
     @Override
     public void doFilter(jakarta.servlet.ServletRequest request,
@@ -1,9 +1,13 @@
 package cloud.zipbob.edgeservice.auth.filter;
 
+import cloud.zipbob.edgeservice.auth.jwt.AccessTokenRenewer;
 import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProvider;
+import cloud.zipbob.edgeservice.auth.jwt.RevokedTokenRegistry;
+import cloud.zipbob.edgeservice.auth.jwt.TokenGenerations;
+import cloud.zipbob.edgeservice.auth.jwt.VerifiedToken;
+import cloud.zipbob.edgeservice.auth.jwt.VerifiedTokenCache;
 import cloud.zipbob.edgeservice.global.ErrorResponse;
 import cloud.zipbob.edgeservice.global.exception.BaseException;
-import cloud.zipbob.edgeservice.global.redis.RedisService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.FilterChain;
@@ -25,9 +29,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtVerificationFilter extends OncePerRequestFilter {
     private static final List<String> EXCLUDED_PATHS =
-            List.of("/auth/reissue", "/members/nickname-check");
+            List.of("/auth/reissue", "/members/nickname-check", "/members/nickname-suggest");
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisService redisService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final TokenGenerations tokenGenerations;
+    private final AccessTokenRenewer accessTokenRenewer;
     private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
     @Override
@@ -38,12 +45,16 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         try {
             String accessToken = jwtTokenProvider.resolveAccessToken(request);
 
-            if (StringUtils.hasText(accessToken) && isLogoutAccount(accessToken)) {
-                throw new RuntimeException("Token is in logout state.");
-            }
-
-            if (StringUtils.hasText(accessToken) && jwtTokenProvider.validateToken(accessToken)) {
-                setAuthentication(accessToken);
+            if (StringUtils.hasText(accessToken)) {
+                VerifiedToken verifiedToken = verifiedTokenCache.get(accessToken, jwtTokenProvider::verify);
+                if (revokedTokenRegistry.isRevoked(verifiedToken.tokenId())) {
+                    throw new RuntimeException("Token is in logout state.");
+                }
+                if (!tokenGenerations.isCurrent(verifiedToken.principal().getId(), verifiedToken.generation())) {
+                    throw new RuntimeException("Token generation is revoked.");
+                }
+                setAuthentication(verifiedToken);
+                renewIfExpiring(verifiedToken, response);
             }
         } catch (RuntimeException e) {
             log.info("doFilterInternal failed");
@@ -74,19 +85,21 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         }
     }
 
-    private boolean isLogoutAccount(String accessToken) {
-        String isLogout = redisService.getValues(accessToken);
-        return "true".equals(isLogout);
-    }
-
     @Override
     protected boolean shouldNotFilter(@NotNull HttpServletRequest request) {
         log.info("Request URI excluded from JwtVerificationFilter");
-        return EXCLUDED_PATHS.stream().anyMatch(exclude -> exclude.equalsIgnoreCase(request.getServletPath()));
+        return EXCLUDED_PATHS.stream().anyMatch(request.getServletPath()::startsWith);
+    }
+
+    private void renewIfExpiring(VerifiedToken verifiedToken, HttpServletResponse response) {
+        String renewedAccessToken = accessTokenRenewer.renewIfExpiring(verifiedToken);
+        if (renewedAccessToken != null) {
+            jwtTokenProvider.accessTokenSetHeader(renewedAccessToken, response);
+        }
     }
 
-    private void setAuthentication(String accessToken) {
-        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+    private void setAuthentication(VerifiedToken verifiedToken) {
+        Authentication authentication = verifiedToken.authentication();
         SecurityContextHolder.getContext().setAuthentication(authentication);
         log.info("Set Authentication Success");
     }
@@ -0,0 +1,95 @@
+package cloud.zipbob.edgeservice.auth.filter;
+
+import cloud.zipbob.edgeservice.auth.PrincipalDetails;
+import cloud.zipbob.edgeservice.global.redis.HybridRateLimiter;
+import cloud.zipbob.edgeservice.global.redis.RateLimitDecision;
+import cloud.zipbob.edgeservice.global.redis.RateLimitPolicyTable;
+import cloud.zipbob.edgeservice.global.redis.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitingFilter extends OncePerRequestFilter {
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final byte[] RATE_LIMITED_BODY =
+            "{\"errorCode\":\"TOO_MANY_REQUESTS\",\"errorMessage\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final HybridRateLimiter hybridRateLimiter;
+    private final RateLimitPolicyTable rateLimitPolicyTable;
+    private final RateLimitProperties rateLimitProperties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitDecision decision = tryAcquire(request);
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+        if (!decision.allowed()) {
+            log.info("Rate limit exceeded : {}", request.getRequestURI());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(RATE_LIMITED_BODY.length);
+            response.getOutputStream().write(RATE_LIMITED_BODY);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private RateLimitDecision tryAcquire(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principalDetails) {
+            String role = principalDetails.getAuthorities().iterator().next().getAuthority();
+            return hybridRateLimiter.tryAcquire(
+                    rateLimitPolicyTable.resolve(path, role, RateLimitProperties.MEMBER),
+                    String.valueOf(principalDetails.getId()));
+        }
+        return hybridRateLimiter.tryAcquire(
+                rateLimitPolicyTable.resolve(path, RateLimitPolicyTable.ANONYMOUS_ROLE, RateLimitProperties.ANONYMOUS),
+                clientIp(request));
+    }
+
+    /**
+     * 비회원 제한 키. 직접 연결한 주소가 신뢰하는 프록시(rate-limit.trusted-proxies)일 때만
+     * X-Forwarded-For를 오른쪽부터 읽어 신뢰하지 않는 첫 주소를 클라이언트로 본다.
+     */
+    private String clientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        List<String> trustedProxies = rateLimitProperties.getTrustedProxies();
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (!trustedProxies.contains(remoteAddr) || !StringUtils.hasText(forwardedFor)) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!StringUtils.hasText(hop)) {
+                break;
+            }
+            client = hop;
+            if (!trustedProxies.contains(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+}
@@ -0,0 +1,64 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import cloud.zipbob.edgeservice.auth.PrincipalDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료가 가까운 access token에 대해 새 토큰을 발급한다. 같은 회원(같은 role, 세대)의 동시 요청에는
+ * 잠시 동안 같은 토큰을 돌려줘 중복 발급을 막는다. 새 토큰은 최초 로그인 시각을 이어받으며,
+ * 로그인 후 renewal.max-lifetime(기본값 jwt.refresh-expiration)이 지나면 더 이상 갱신하지 않는다.
+ */
+@Component
+public class AccessTokenRenewer {
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenProperties jwtTokenProperties;
+    private final Cache<RenewalKey, String> renewedTokens;
+    private final Counter issued;
+
+    public AccessTokenRenewer(JwtTokenProvider jwtTokenProvider, JwtTokenProperties jwtTokenProperties,
+                              MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtTokenProperties = jwtTokenProperties;
+        JwtTokenProperties.RenewalProperties properties = jwtTokenProperties.getRenewal();
+        this.renewedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getReuseTtl())
+                .build();
+        this.issued = meterRegistry.counter("auth.renewal.issued");
+    }
+
+    public String renewIfExpiring(VerifiedToken verifiedToken) {
+        JwtTokenProperties.RenewalProperties properties = jwtTokenProperties.getRenewal();
+        long now = System.currentTimeMillis();
+        if (!properties.isEnabled()
+                || verifiedToken.expiresAt() - now > properties.getWindow().toMillis()
+                || !withinMaxLifetime(verifiedToken.authenticatedAt(), now, properties)) {
+            return null;
+        }
+        PrincipalDetails principal = verifiedToken.principal();
+        RenewalKey renewalKey = new RenewalKey(principal.getId(), principal.getUsername(), principal.role(),
+                verifiedToken.generation(), verifiedToken.authenticatedAt());
+        return renewedTokens.get(renewalKey, key -> {
+            issued.increment();
+            return jwtTokenProvider.generateAccessToken(principal, key.generation(), key.authenticatedAt());
+        });
+    }
+
+    private boolean withinMaxLifetime(long authenticatedAt, long now,
+                                      JwtTokenProperties.RenewalProperties properties) {
+        if (authenticatedAt <= 0) {
+            return false;
+        }
+        long maxLifetime = properties.getMaxLifetime() != null
+                ? properties.getMaxLifetime().toMillis()
+                : jwtTokenProperties.getRefreshExpiration();
+        return now - authenticatedAt < maxLifetime;
+    }
+
+    private record RenewalKey(Long memberId, String email, String role, long generation, long authenticatedAt) {
+    }
+}
@@ -0,0 +1,82 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ES256 서명 키의 불변 스냅샷. 교체 시 이전 활성 키는 retention 동안 검증 키로 남고,
+ * 그 기간 동안 JWKS에도 함께 게시되어 이전 키로 서명된 토큰을 하위 서비스도 검증할 수 있다.
+ */
+public final class AsymmetricKeyRing {
+    private static final AsymmetricKeyRing EMPTY = new AsymmetricKeyRing(null, Map.of());
+
+    private final AsymmetricSigningKey activeKey;
+    private final Map<String, RetainedKey> retainedKeys;
+
+    private AsymmetricKeyRing(AsymmetricSigningKey activeKey, Map<String, RetainedKey> retainedKeys) {
+        this.activeKey = activeKey;
+        this.retainedKeys = Collections.unmodifiableMap(new LinkedHashMap<>(retainedKeys));
+    }
+
+    /**
+     * @param activeKey HS256으로 서명하는 설정이면 null
+     */
+    public static AsymmetricKeyRing create(AsymmetricSigningKey activeKey) {
+        return activeKey != null ? new AsymmetricKeyRing(activeKey, Map.of()) : EMPTY;
+    }
+
+    public AsymmetricKeyRing rotate(AsymmetricSigningKey newActiveKey, long retainedUntil) {
+        long now = System.currentTimeMillis();
+        Map<String, RetainedKey> keys = new LinkedHashMap<>();
+        if (activeKey != null && (newActiveKey == null || !activeKey.keyId().equals(newActiveKey.keyId()))) {
+            keys.put(activeKey.keyId(), new RetainedKey(activeKey, retainedUntil));
+        }
+        retainedKeys.forEach((keyId, retainedKey) -> {
+            if (retainedKey.notAfter() > now) {
+                keys.putIfAbsent(keyId, retainedKey);
+            }
+        });
+        if (newActiveKey != null) {
+            keys.remove(newActiveKey.keyId());
+        }
+        return new AsymmetricKeyRing(newActiveKey, keys);
+    }
+
+    public AsymmetricSigningKey activeKey() {
+        return activeKey;
+    }
+
+    public ECPublicKey verificationKey(String keyId) {
+        if (activeKey != null && activeKey.keyId().equals(keyId)) {
+            return activeKey.publicKey();
+        }
+        RetainedKey retainedKey = keyId != null ? retainedKeys.get(keyId) : null;
+        if (retainedKey == null || retainedKey.notAfter() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return retainedKey.key().publicKey();
+    }
+
+    /**
+     * JWKS에 게시할 키. 활성 키가 먼저 오고, retention이 끝나지 않은 이전 키가 뒤따른다.
+     */
+    public List<AsymmetricSigningKey> publishedKeys() {
+        long now = System.currentTimeMillis();
+        List<AsymmetricSigningKey> keys = new ArrayList<>(retainedKeys.size() + 1);
+        if (activeKey != null) {
+            keys.add(activeKey);
+        }
+        retainedKeys.values().stream()
+                .filter(retainedKey -> retainedKey.notAfter() > now)
+                .map(RetainedKey::key)
+                .forEach(keys::add);
+        return keys;
+    }
+
+    private record RetainedKey(AsymmetricSigningKey key, long notAfter) {
+    }
+}
@@ -0,0 +1,52 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import org.springframework.util.StringUtils;
+
+public record AsymmetricSigningKey(String keyId, SignatureAlgorithm algorithm, PrivateKey privateKey,
+                                   ECPublicKey publicKey) {
+    private static final int P256_FIELD_SIZE = 256;
+
+    public static AsymmetricSigningKey from(JwtTokenProperties.SigningProperties properties) {
+        String algorithm = properties.getAlgorithm();
+        if (!StringUtils.hasText(algorithm) || SignatureAlgorithm.HS256.getValue().equalsIgnoreCase(algorithm)) {
+            return null;
+        }
+        if (!SignatureAlgorithm.ES256.getValue().equalsIgnoreCase(algorithm)) {
+            throw new IllegalStateException("Unsupported jwt.signing.algorithm: " + algorithm
+                    + " (supported: HS256, ES256)");
+        }
+        if (!StringUtils.hasText(properties.getKeyId())) {
+            throw new IllegalStateException("jwt.signing.key-id is required for " + algorithm);
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            PrivateKey privateKey = keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(decodeKey(properties.getPrivateKey())));
+            ECPublicKey publicKey = (ECPublicKey) keyFactory.generatePublic(
+                    new X509EncodedKeySpec(decodeKey(properties.getPublicKey())));
+            if (publicKey.getParams().getCurve().getField().getFieldSize() != P256_FIELD_SIZE) {
+                throw new IllegalStateException("ES256 requires a P-256 key pair");
+            }
+            return new AsymmetricSigningKey(properties.getKeyId(), SignatureAlgorithm.ES256, privateKey, publicKey);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid jwt.signing key pair", e);
+        }
+    }
+
+    private static byte[] decodeKey(String key) {
+        if (!StringUtils.hasText(key)) {
+            throw new IllegalArgumentException("jwt.signing private-key and public-key are required");
+        }
+        String base64 = key.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
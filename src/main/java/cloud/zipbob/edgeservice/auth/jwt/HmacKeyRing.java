@@ -0,0 +1,137 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+/**
+ * 서명용 활성 키 하나와 kid로 조회하는 검증 키들을 담는 불변 스냅샷.
+ * 교체 시 이전 활성 키는 retention 동안 검증 키로 남는다.
+ */
+public final class HmacKeyRing {
+    private static final int KEY_ID_LENGTH = 11;
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final String activeKeyId;
+    private final String legacyKeyId;
+    private final Map<String, VerificationKey> verificationKeys;
+    private final VerificationKey[] fastPathKeys;
+
+    private HmacKeyRing(String activeKeyId, String legacyKeyId, Map<String, VerificationKey> verificationKeys) {
+        this.activeKeyId = activeKeyId;
+        this.legacyKeyId = legacyKeyId;
+        this.verificationKeys = Map.copyOf(verificationKeys);
+        this.fastPathKeys = verificationKeys.values().toArray(VerificationKey[]::new);
+    }
+
+    public static HmacKeyRing create(String activeSecret, List<String> previousSecrets,
+                                     Map<String, String> rolesByCode) {
+        Map<String, VerificationKey> keys = configuredKeys(activeSecret, previousSecrets, rolesByCode);
+        String activeKeyId = keys.keySet().iterator().next();
+        return new HmacKeyRing(activeKeyId, activeKeyId, keys);
+    }
+
+    public HmacKeyRing rotate(String activeSecret, List<String> previousSecrets,
+                              Map<String, String> rolesByCode, long retainedUntil) {
+        Map<String, VerificationKey> keys = configuredKeys(activeSecret, previousSecrets, rolesByCode);
+        String newActiveKeyId = keys.keySet().iterator().next();
+        long now = System.currentTimeMillis();
+        verificationKeys.forEach((keyId, verificationKey) -> {
+            if (!keys.containsKey(keyId)) {
+                long notAfter = verificationKey.notAfter() == NO_EXPIRY ? retainedUntil : verificationKey.notAfter();
+                if (notAfter > now) {
+                    keys.put(keyId, verificationKey.withNotAfter(notAfter));
+                }
+            }
+        });
+        return new HmacKeyRing(newActiveKeyId, legacyKeyId, keys);
+    }
+
+    public String activeKeyId() {
+        return activeKeyId;
+    }
+
+    public SecretKey activeKey() {
+        return verificationKeys.get(activeKeyId).key();
+    }
+
+    public SecretKey verificationKey(String keyId) {
+        VerificationKey verificationKey = verificationKeys.get(keyId != null ? keyId : legacyKeyId);
+        if (verificationKey == null || verificationKey.notAfter() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return verificationKey.key();
+    }
+
+    public Hs256FastVerifier.FastClaims verifyFast(String token) {
+        for (VerificationKey verificationKey : fastPathKeys) {
+            if (verificationKey.fastVerifier().matchesHeader(token)) {
+                if (verificationKey.notAfter() <= System.currentTimeMillis()) {
+                    return null;
+                }
+                return verificationKey.fastVerifier().verify(token);
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return verificationKeys.size();
+    }
+
+    private static Map<String, VerificationKey> configuredKeys(String activeSecret, List<String> previousSecrets,
+                                                               Map<String, String> rolesByCode) {
+        Map<String, VerificationKey> keys = new LinkedHashMap<>();
+        addKey(keys, activeSecret, rolesByCode);
+        if (previousSecrets != null) {
+            previousSecrets.forEach(secret -> addKey(keys, secret, rolesByCode));
+        }
+        return keys;
+    }
+
+    private static void addKey(Map<String, VerificationKey> keys, String secret,
+                               Map<String, String> rolesByCode) {
+        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        String keyId = keyId(key);
+        if (!keys.containsKey(keyId)) {
+            keys.put(keyId, new VerificationKey(key, NO_EXPIRY, fastVerifier(keyId, key, rolesByCode)));
+        }
+    }
+
+    private static String keyId(SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            byte[] digest = mac.doFinal("kid".getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, KEY_ID_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive key id", e);
+        }
+    }
+
+    private static Hs256FastVerifier fastVerifier(String keyId, SecretKey key,
+                                                  Map<String, String> rolesByCode) {
+        String probe = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                .setSubject("probe")
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        return new Hs256FastVerifier(key.getEncoded(), probe.substring(0, probe.indexOf('.')), rolesByCode);
+    }
+
+    private record VerificationKey(SecretKey key, long notAfter, Hs256FastVerifier fastVerifier) {
+
+        private VerificationKey withNotAfter(long notAfter) {
+            return new VerificationKey(key, notAfter, fastVerifier);
+        }
+    }
+}
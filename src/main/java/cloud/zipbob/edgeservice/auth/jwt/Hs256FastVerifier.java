@@ -0,0 +1,500 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * generateTokenDto가 발급하는 HS256 access token 전용 검증기.
+ * 스레드별 Mac과 버퍼를 재사용하며, 처리할 수 없는 토큰(다른 헤더, 중첩 JSON, escape 문자열, 만료 등)은
+ * null을 반환해 jjwt 경로가 검증과 예외 처리를 맡도록 한다.
+ */
+public final class Hs256FastVerifier {
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int ENCODED_SIGNATURE_LENGTH = 43;
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final byte[] MEMBER_ID = ascii("memberId");
+    private static final byte[] ROLE = ascii("role");
+    private static final byte[] SUBJECT = ascii("sub");
+    private static final byte[] TOKEN_ID = ascii("jti");
+    private static final byte[] GENERATION = ascii("gen");
+    private static final byte[] COMPACT_EMAIL = ascii("e");
+    private static final byte[] COMPACT_ROLE = ascii("r");
+    private static final byte[] COMPACT_GENERATION = ascii("g");
+    private static final byte[] AUTH_TIME = ascii("auth_time");
+    private static final byte[] COMPACT_AUTH_TIME = ascii("a");
+    private static final byte[] EXPIRATION = ascii("exp");
+    private static final byte[] NOT_BEFORE = ascii("nbf");
+    private static final int[] BASE64_URL = base64UrlTable();
+
+    private final SecretKeySpec keySpec;
+    private final String headerSegment;
+    private final String[] roles;
+    private final byte[][] encodedRoles;
+    private final byte[][] encodedRoleCodes;
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(this::newWorkspace);
+
+    public Hs256FastVerifier(byte[] keyBytes, String headerSegment, List<String> roles) {
+        this(keyBytes, headerSegment, roles.toArray(String[]::new), new String[roles.size()]);
+    }
+
+    public Hs256FastVerifier(byte[] keyBytes, String headerSegment, Map<String, String> rolesByCode) {
+        this(keyBytes, headerSegment, rolesByCode.values().toArray(String[]::new),
+                rolesByCode.keySet().toArray(String[]::new));
+    }
+
+    private Hs256FastVerifier(byte[] keyBytes, String headerSegment, String[] roles, String[] roleCodes) {
+        this.keySpec = new SecretKeySpec(keyBytes, HMAC_SHA256);
+        this.headerSegment = headerSegment;
+        this.roles = roles;
+        this.encodedRoles = new byte[roles.length][];
+        this.encodedRoleCodes = new byte[roles.length][];
+        for (int i = 0; i < roles.length; i++) {
+            this.encodedRoles[i] = roles[i].getBytes(StandardCharsets.UTF_8);
+            this.encodedRoleCodes[i] = roleCodes[i] != null ? roleCodes[i].getBytes(StandardCharsets.UTF_8) : null;
+        }
+    }
+
+    public boolean matchesHeader(String token) {
+        int headerLength = headerSegment.length();
+        return token.length() > headerLength && token.charAt(headerLength) == '.'
+                && token.regionMatches(0, headerSegment, 0, headerLength);
+    }
+
+    public FastClaims verify(String token) {
+        if (!matchesHeader(token)) {
+            return null;
+        }
+        int headerLength = headerSegment.length();
+        int tokenLength = token.length();
+        int signatureDot = token.indexOf('.', headerLength + 1);
+        if (signatureDot < 0 || tokenLength - signatureDot - 1 != ENCODED_SIGNATURE_LENGTH) {
+            return null;
+        }
+
+        Workspace workspace = workspaces.get();
+        if (!signatureMatches(token, signatureDot, workspace)) {
+            return null;
+        }
+
+        byte[] payload = workspace.payload(signatureDot - headerLength - 1);
+        int payloadLength = decodeBase64Url(token, headerLength + 1, signatureDot, payload);
+        if (payloadLength < 0) {
+            return null;
+        }
+
+        FastClaims claims = workspace.claims;
+        claims.reset(payload);
+        if (!parseClaims(payload, payloadLength, claims) || !claims.isComplete()
+                || claims.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return claims;
+    }
+
+    private boolean signatureMatches(String token, int signingInputLength, Workspace workspace) {
+        byte[] signingInput = workspace.signingInput(signingInputLength);
+        for (int i = 0; i < signingInputLength; i++) {
+            char c = token.charAt(i);
+            if (c >= 0x80) {
+                return false;
+            }
+            signingInput[i] = (byte) c;
+        }
+        if (decodeBase64Url(token, signingInputLength + 1, token.length(), workspace.actualSignature)
+                != SIGNATURE_LENGTH) {
+            return false;
+        }
+        try {
+            workspace.mac.update(signingInput, 0, signingInputLength);
+            workspace.mac.doFinal(workspace.expectedSignature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 signing failed", e);
+        }
+        return MessageDigest.isEqual(workspace.expectedSignature, workspace.actualSignature);
+    }
+
+    private boolean parseClaims(byte[] json, int length, FastClaims claims) {
+        int pos = skipWhitespace(json, 0, length);
+        if (pos >= length || json[pos] != '{') {
+            return false;
+        }
+        pos = skipWhitespace(json, pos + 1, length);
+        if (pos < length && json[pos] == '}') {
+            return skipWhitespace(json, pos + 1, length) == length;
+        }
+        while (true) {
+            if (pos >= length || json[pos] != '"') {
+                return false;
+            }
+            int keyStart = pos + 1;
+            int keyEnd = findStringEnd(json, keyStart, length);
+            if (keyEnd < 0) {
+                return false;
+            }
+            pos = skipWhitespace(json, keyEnd + 1, length);
+            if (pos >= length || json[pos] != ':') {
+                return false;
+            }
+            pos = skipWhitespace(json, pos + 1, length);
+            if (pos >= length) {
+                return false;
+            }
+
+            byte first = json[pos];
+            if (first == '"') {
+                int valueStart = pos + 1;
+                int valueEnd = findStringEnd(json, valueStart, length);
+                if (valueEnd < 0 || !readString(json, keyStart, keyEnd, valueStart, valueEnd, claims)) {
+                    return false;
+                }
+                pos = valueEnd + 1;
+            } else if (first == '-' || isDigit(first)) {
+                pos = readNumber(json, pos, length, keyStart, keyEnd, claims);
+                if (pos < 0) {
+                    return false;
+                }
+            } else if (first == 't' || first == 'f' || first == 'n') {
+                if (isKnownKey(json, keyStart, keyEnd)) {
+                    return false;
+                }
+                while (pos < length && json[pos] >= 'a' && json[pos] <= 'z') {
+                    pos++;
+                }
+            } else {
+                return false;
+            }
+
+            pos = skipWhitespace(json, pos, length);
+            if (pos >= length) {
+                return false;
+            }
+            if (json[pos] == '}') {
+                return skipWhitespace(json, pos + 1, length) == length;
+            }
+            if (json[pos] != ',') {
+                return false;
+            }
+            pos = skipWhitespace(json, pos + 1, length);
+        }
+    }
+
+    private boolean readString(byte[] json, int keyStart, int keyEnd, int valueStart, int valueEnd,
+                               FastClaims claims) {
+        if (matches(json, keyStart, keyEnd, SUBJECT)) {
+            claims.subjectOffset = valueStart;
+            claims.subjectLength = valueEnd - valueStart;
+            readSubjectNumber(json, valueStart, valueEnd, claims);
+            return true;
+        }
+        if (matches(json, keyStart, keyEnd, COMPACT_EMAIL)) {
+            claims.emailOffset = valueStart;
+            claims.emailLength = valueEnd - valueStart;
+            return true;
+        }
+        if (matches(json, keyStart, keyEnd, COMPACT_ROLE)) {
+            for (int i = 0; i < encodedRoleCodes.length; i++) {
+                if (encodedRoleCodes[i] != null && matches(json, valueStart, valueEnd, encodedRoleCodes[i])) {
+                    claims.role = roles[i];
+                    claims.compact = true;
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (matches(json, keyStart, keyEnd, TOKEN_ID)) {
+            claims.tokenIdOffset = valueStart;
+            claims.tokenIdLength = valueEnd - valueStart;
+            return true;
+        }
+        if (matches(json, keyStart, keyEnd, ROLE)) {
+            for (int i = 0; i < encodedRoles.length; i++) {
+                if (matches(json, valueStart, valueEnd, encodedRoles[i])) {
+                    claims.role = roles[i];
+                    return true;
+                }
+            }
+            return false;
+        }
+        return !isKnownKey(json, keyStart, keyEnd);
+    }
+
+    private static void readSubjectNumber(byte[] json, int valueStart, int valueEnd, FastClaims claims) {
+        int digits = valueEnd - valueStart;
+        if (digits == 0 || digits > MAX_LONG_DIGITS) {
+            return;
+        }
+        long value = 0;
+        for (int i = valueStart; i < valueEnd; i++) {
+            if (!isDigit(json[i])) {
+                return;
+            }
+            value = value * 10 + (json[i] - '0');
+        }
+        claims.subjectNumber = value;
+        claims.hasSubjectNumber = true;
+    }
+
+    private int readNumber(byte[] json, int pos, int length, int keyStart, int keyEnd, FastClaims claims) {
+        boolean negative = json[pos] == '-';
+        int digitStart = negative ? pos + 1 : pos;
+        int end = digitStart;
+        long value = 0;
+        while (end < length && isDigit(json[end])) {
+            value = value * 10 + (json[end] - '0');
+            end++;
+        }
+        int digits = end - digitStart;
+        if (digits == 0 || digits > MAX_LONG_DIGITS) {
+            return -1;
+        }
+        if (end < length && (json[end] == '.' || json[end] == 'e' || json[end] == 'E')) {
+            return -1;
+        }
+        if (negative) {
+            value = -value;
+        }
+
+        if (matches(json, keyStart, keyEnd, MEMBER_ID)) {
+            claims.memberId = value;
+            claims.hasMemberId = true;
+        } else if (matches(json, keyStart, keyEnd, GENERATION)
+                || matches(json, keyStart, keyEnd, COMPACT_GENERATION)) {
+            claims.generation = value;
+        } else if (matches(json, keyStart, keyEnd, AUTH_TIME)
+                || matches(json, keyStart, keyEnd, COMPACT_AUTH_TIME)) {
+            claims.authTime = value;
+        } else if (matches(json, keyStart, keyEnd, EXPIRATION)) {
+            claims.expiration = value;
+            claims.hasExpiration = true;
+        } else if (isKnownKey(json, keyStart, keyEnd)) {
+            return -1;
+        }
+        return end;
+    }
+
+    private static boolean isKnownKey(byte[] json, int keyStart, int keyEnd) {
+        return matches(json, keyStart, keyEnd, MEMBER_ID)
+                || matches(json, keyStart, keyEnd, ROLE)
+                || matches(json, keyStart, keyEnd, SUBJECT)
+                || matches(json, keyStart, keyEnd, TOKEN_ID)
+                || matches(json, keyStart, keyEnd, GENERATION)
+                || matches(json, keyStart, keyEnd, COMPACT_EMAIL)
+                || matches(json, keyStart, keyEnd, COMPACT_ROLE)
+                || matches(json, keyStart, keyEnd, COMPACT_GENERATION)
+                || matches(json, keyStart, keyEnd, AUTH_TIME)
+                || matches(json, keyStart, keyEnd, COMPACT_AUTH_TIME)
+                || matches(json, keyStart, keyEnd, EXPIRATION)
+                || matches(json, keyStart, keyEnd, NOT_BEFORE);
+    }
+
+    private static int findStringEnd(byte[] json, int from, int length) {
+        for (int i = from; i < length; i++) {
+            byte b = json[i];
+            if (b == '"') {
+                return i;
+            }
+            if (b == '\\' || (b >= 0 && b < 0x20)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int pos, int length) {
+        while (pos < length && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean matches(byte[] json, int start, int end, byte[] expected) {
+        return Arrays.equals(json, start, end, expected, 0, expected.length);
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    static int decodeBase64Url(String source, int from, int to, byte[] destination) {
+        int remaining = (to - from) % 4;
+        int decodedLength = (to - from) / 4 * 3 + (remaining == 0 ? 0 : remaining - 1);
+        if (remaining == 1 || decodedLength > destination.length) {
+            return -1;
+        }
+        int out = 0;
+        int pos = from;
+        for (int fullGroupsEnd = to - remaining; pos < fullGroupsEnd; pos += 4) {
+            int a = sextet(source.charAt(pos));
+            int b = sextet(source.charAt(pos + 1));
+            int c = sextet(source.charAt(pos + 2));
+            int d = sextet(source.charAt(pos + 3));
+            if ((a | b | c | d) < 0) {
+                return -1;
+            }
+            int bits = a << 18 | b << 12 | c << 6 | d;
+            destination[out++] = (byte) (bits >> 16);
+            destination[out++] = (byte) (bits >> 8);
+            destination[out++] = (byte) bits;
+        }
+        if (remaining > 0) {
+            int a = sextet(source.charAt(pos));
+            int b = sextet(source.charAt(pos + 1));
+            int c = remaining == 3 ? sextet(source.charAt(pos + 2)) : 0;
+            if ((a | b | c) < 0) {
+                return -1;
+            }
+            int bits = a << 18 | b << 12 | c << 6;
+            destination[out++] = (byte) (bits >> 16);
+            if (remaining == 3) {
+                destination[out++] = (byte) (bits >> 8);
+            }
+        }
+        return out;
+    }
+
+    private static int sextet(char c) {
+        return c < 0x80 ? BASE64_URL[c] : -1;
+    }
+
+    private static int[] base64UrlTable() {
+        int[] table = new int[0x80];
+        Arrays.fill(table, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            table[alphabet.charAt(i)] = i;
+        }
+        return table;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private Workspace newWorkspace() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(keySpec);
+            return new Workspace(mac);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static final class Workspace {
+        private final Mac mac;
+        private final byte[] expectedSignature = new byte[SIGNATURE_LENGTH];
+        private final byte[] actualSignature = new byte[SIGNATURE_LENGTH];
+        private final FastClaims claims = new FastClaims();
+        private byte[] signingInput = new byte[512];
+        private byte[] payload = new byte[384];
+
+        private Workspace(Mac mac) {
+            this.mac = mac;
+        }
+
+        private byte[] signingInput(int length) {
+            if (signingInput.length < length) {
+                signingInput = new byte[length];
+            }
+            return signingInput;
+        }
+
+        private byte[] payload(int encodedLength) {
+            int decodedLength = encodedLength / 4 * 3 + 2;
+            if (payload.length < decodedLength) {
+                payload = new byte[decodedLength];
+            }
+            return payload;
+        }
+    }
+
+    public static final class FastClaims {
+        private byte[] source;
+        private long memberId;
+        private boolean hasMemberId;
+        private String role;
+        private int subjectOffset;
+        private int subjectLength;
+        private long subjectNumber;
+        private boolean hasSubjectNumber;
+        private int emailOffset;
+        private int emailLength;
+        private boolean compact;
+        private int tokenIdOffset;
+        private int tokenIdLength;
+        private long generation;
+        private long authTime;
+        private long expiration;
+        private boolean hasExpiration;
+
+        private void reset(byte[] source) {
+            this.source = source;
+            this.hasMemberId = false;
+            this.role = null;
+            this.subjectOffset = -1;
+            this.subjectLength = 0;
+            this.hasSubjectNumber = false;
+            this.emailOffset = -1;
+            this.emailLength = 0;
+            this.compact = false;
+            this.tokenIdOffset = -1;
+            this.tokenIdLength = 0;
+            this.generation = 0;
+            this.authTime = 0;
+            this.hasExpiration = false;
+        }
+
+        private boolean isComplete() {
+            if (role == null || !hasExpiration) {
+                return false;
+            }
+            return compact ? hasSubjectNumber : hasMemberId;
+        }
+
+        public long memberId() {
+            return compact ? subjectNumber : memberId;
+        }
+
+        public String role() {
+            return role;
+        }
+
+        public long generation() {
+            return generation;
+        }
+
+        public long authenticatedAt() {
+            return authTime * 1000;
+        }
+
+        public long expiresAt() {
+            return expiration * 1000;
+        }
+
+        public String subject() {
+            return subjectOffset < 0 ? null : new String(source, subjectOffset, subjectLength, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * compact 프로필 토큰은 email을 싣지 않으므로 null. 이전에 발급된 "e" 클레임이 있으면 그 값을 쓴다.
+         */
+        public String email() {
+            if (compact) {
+                return emailOffset < 0 ? null : new String(source, emailOffset, emailLength, StandardCharsets.UTF_8);
+            }
+            return subject();
+        }
+
+        public String tokenId() {
+            return tokenIdOffset < 0 ? null : new String(source, tokenIdOffset, tokenIdLength, StandardCharsets.UTF_8);
+        }
+    }
+}
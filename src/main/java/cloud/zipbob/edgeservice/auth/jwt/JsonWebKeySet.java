@@ -0,0 +1,76 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JsonWebKeySet {
+    private static final int P256_COORDINATE_LENGTH = 32;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile Document document;
+
+    /**
+     * 활성 키와 retention 중인 이전 키를 게시한다. 이전 키의 retention이 끝나면 목록이 바뀌므로
+     * 게시 대상 키 목록이 같을 때만 만들어 둔 문서를 재사용한다.
+     */
+    public Document current() {
+        List<AsymmetricSigningKey> publishedKeys = jwtTokenProvider.getAsymmetricKeyRing().publishedKeys();
+        Document cached = this.document;
+        if (cached == null || !cached.source().equals(publishedKeys)) {
+            cached = build(publishedKeys);
+            this.document = cached;
+        }
+        return cached;
+    }
+
+    private Document build(List<AsymmetricSigningKey> publishedKeys) {
+        List<Map<String, String>> keys = new ArrayList<>(publishedKeys.size());
+        publishedKeys.forEach(signingKey -> keys.add(toJwk(signingKey)));
+        try {
+            String json = objectMapper.writeValueAsString(Map.of("keys", keys));
+            String eTag = "\"" + TokenDigests.sha256(json) + "\"";
+            return new Document(publishedKeys, json, eTag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize JWKS", e);
+        }
+    }
+
+    private Map<String, String> toJwk(AsymmetricSigningKey signingKey) {
+        ECPublicKey publicKey = signingKey.publicKey();
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", signingKey.algorithm().getValue());
+        jwk.put("kid", signingKey.keyId());
+        jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    private String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] unsigned = new byte[P256_COORDINATE_LENGTH];
+        int length = Math.min(bytes.length, P256_COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - length, unsigned, P256_COORDINATE_LENGTH - length, length);
+        return BASE64_URL.encodeToString(unsigned);
+    }
+
+    public record Document(List<AsymmetricSigningKey> source, String json, String eTag) {
+    }
+}
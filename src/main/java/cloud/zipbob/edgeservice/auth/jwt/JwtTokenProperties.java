@@ -1,5 +1,8 @@
 package cloud.zipbob.edgeservice.auth.jwt;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -10,8 +13,75 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class JwtTokenProperties {
     private String secretKey;
 
+    private List<String> previousSecretKeys = new ArrayList<>();
+
     private long accessExpiration;
 
     private long refreshExpiration;
 
+    private ClaimProfile claimProfile = ClaimProfile.STANDARD;
+
+    private CacheProperties cache = new CacheProperties();
+
+    private SigningProperties signing = new SigningProperties();
+
+    private GenerationProperties generation = new GenerationProperties();
+
+    private ReissueProperties reissue = new ReissueProperties();
+
+    private RenewalProperties renewal = new RenewalProperties();
+
+    @Setter
+    @Getter
+    public static class CacheProperties {
+        private long maximumSize = 10_000;
+
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Setter
+    @Getter
+    public static class SigningProperties {
+        private String algorithm = "HS256";
+
+        private String keyId;
+
+        private String privateKey;
+
+        private String publicKey;
+
+        private Duration jwksMaxAge = Duration.ofHours(1);
+    }
+
+    @Setter
+    @Getter
+    public static class GenerationProperties {
+        private long maximumSize = 100_000;
+
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    @Setter
+    @Getter
+    public static class ReissueProperties {
+        private Duration resultTtl = Duration.ofSeconds(10);
+    }
+
+    @Setter
+    @Getter
+    public static class RenewalProperties {
+        private boolean enabled = false;
+
+        private Duration window = Duration.ofMinutes(5);
+
+        private Duration reuseTtl = Duration.ofSeconds(30);
+
+        private Duration maxLifetime;
+
+        private long maximumSize = 10_000;
+    }
+
+    public enum ClaimProfile {
+        STANDARD, COMPACT
+    }
 }
@@ -4,25 +4,36 @@ import cloud.zipbob.edgeservice.auth.PrincipalDetails;
 import cloud.zipbob.edgeservice.auth.dto.TokenDto;
 import cloud.zipbob.edgeservice.auth.exception.TokenException;
 import cloud.zipbob.edgeservice.auth.exception.TokenExceptionType;
+import cloud.zipbob.edgeservice.domain.member.Role;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.io.Encoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -34,50 +45,90 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
     private final JwtTokenProperties jwtTokenProperties;
+    private final TokenGenerations tokenGenerations;
     private static final String BEARER = "Bearer";
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String AUTH_TIME = "auth_time";
+    private static final String COMPACT_AUTH_TIME = "a";
 
-    private Key key;
+    private static final int TOKEN_ID_BYTES = 12;
+    private static final int TOKEN_ID_LENGTH = 16;
+    private static final SecureRandom TOKEN_ID_RANDOM = new SecureRandom();
+    private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Map<String, String> ROLES_BY_CODE = Arrays.stream(Role.values())
+            .collect(Collectors.toMap(Role::getCode, Role::getKey, (first, second) -> first, LinkedHashMap::new));
+
+    private volatile HmacKeyRing keyRing;
+    private JwtParser jwtParser;
+    @Getter
+    private volatile AsymmetricKeyRing asymmetricKeyRing;
 
     @PostConstruct
     public void init() {
-        String base64EncodedSecretKey = encodeBase64SecretKey(jwtTokenProperties.getSecretKey());
-        this.key = getKeyFromBase64EncodeKey(base64EncodedSecretKey);
+        this.keyRing = HmacKeyRing.create(jwtTokenProperties.getSecretKey(),
+                jwtTokenProperties.getPreviousSecretKeys(), ROLES_BY_CODE);
+        this.asymmetricKeyRing = AsymmetricKeyRing.create(
+                AsymmetricSigningKey.from(jwtTokenProperties.getSigning()));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveVerificationKey(header);
+                    }
+                })
+                .build();
     }
 
-    public String encodeBase64SecretKey(String secretKey) {
-        return Encoders.BASE64.encode(secretKey.getBytes(StandardCharsets.UTF_8));
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void reloadKeys() {
+        long retainedUntil = System.currentTimeMillis()
+                + Math.max(jwtTokenProperties.getAccessExpiration(), jwtTokenProperties.getRefreshExpiration());
+        HmacKeyRing reloaded = keyRing.rotate(jwtTokenProperties.getSecretKey(),
+                jwtTokenProperties.getPreviousSecretKeys(), ROLES_BY_CODE, retainedUntil);
+        AsymmetricKeyRing reloadedAsymmetric = asymmetricKeyRing.rotate(
+                AsymmetricSigningKey.from(jwtTokenProperties.getSigning()), retainedUntil);
+        this.keyRing = reloaded;
+        this.asymmetricKeyRing = reloadedAsymmetric;
+        log.info("Reloaded jwt key ring, active kid : {}, verification keys : {}, published keys : {}",
+                reloaded.activeKeyId(), reloaded.size(), reloadedAsymmetric.publishedKeys().size());
     }
 
-    private Key getKeyFromBase64EncodeKey(String base64EncodedSecretKey) {
-        byte[] keyBytes = Decoders.BASE64.decode(base64EncodedSecretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private Key resolveVerificationKey(JwsHeader<?> header) {
+        String keyId = header.getKeyId();
+        Key publicKey = asymmetricKeyRing.verificationKey(keyId);
+        if (publicKey != null) {
+            return publicKey;
+        }
+        Key verificationKey = keyRing.verificationKey(keyId);
+        if (verificationKey == null) {
+            log.info("Unknown JWT key id : {}", keyId);
+            throw new TokenException(TokenExceptionType.TOKEN_INVALID);
+        }
+        return verificationKey;
     }
 
     public TokenDto generateTokenDto(PrincipalDetails principalDetails) {
+        Long memberId = principalDetails.getId();
+        return generateTokenDto(principalDetails, memberId != null ? tokenGenerations.current(memberId) : 0L);
+    }
+
+    public TokenDto generateTokenDto(PrincipalDetails principalDetails, long generation) {
         log.info("GenerateTokenDto execute principalDetails : {} {}",
                 principalDetails.getUsername(), principalDetails.getAuthorities());
         log.info("expiration period : {}", jwtTokenProperties.getAccessExpiration());
         Date accessTokenExpirationDate = getTokenExpiration(jwtTokenProperties.getAccessExpiration());
         Date refreshTokenExpirationDate = getTokenExpiration(jwtTokenProperties.getRefreshExpiration());
-        String role = principalDetails.getAuthorities().iterator().next().getAuthority();
-        Long memberId = principalDetails.getId();
-
-        String accessToken = Jwts.builder()
-                .claim("memberId", memberId)
-                .claim("role", role)
-                .setSubject(principalDetails.getUsername())
-                .setExpiration(accessTokenExpirationDate)
-                .setIssuedAt(Calendar.getInstance().getTime())
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+        HmacKeyRing ring = keyRing;
+        String accessToken = buildAccessToken(ring, principalDetails, generation, System.currentTimeMillis(),
+                accessTokenExpirationDate);
 
         String refreshToken = Jwts.builder()
                 .setSubject(principalDetails.getUsername())
                 .setExpiration(refreshTokenExpirationDate)
                 .setIssuedAt(Calendar.getInstance().getTime())
-                .signWith(key)
+                .setHeaderParam(JwsHeader.KEY_ID, ring.activeKeyId())
+                .signWith(ring.activeKey())
                 .compact();
 
         return TokenDto.builder()
@@ -89,33 +140,109 @@ public class JwtTokenProvider {
                 .build();
     }
 
-    public Authentication getAuthentication(String accessToken) {
-        log.info("getAuthentication execute accessToken: {}", accessToken);
-        Claims claims = parseClaims(accessToken);
+    public String generateAccessToken(PrincipalDetails principalDetails, long generation, long authenticatedAt) {
+        Date accessTokenExpirationDate = getTokenExpiration(jwtTokenProperties.getAccessExpiration());
+        return buildAccessToken(keyRing, principalDetails, generation, authenticatedAt, accessTokenExpirationDate);
+    }
 
-        if (claims.get("role") == null || claims.get("memberId") == null) {
-            log.debug("getAuthentication exception execute : no role or id in accessToken : {}", accessToken);
-            throw new BadCredentialsException("Invalid access token");
+    private String buildAccessToken(HmacKeyRing ring, PrincipalDetails principalDetails, long generation,
+                                    long authenticatedAt, Date expiration) {
+        long authTime = authenticatedAt / 1000;
+        String role = principalDetails.getAuthorities().iterator().next().getAuthority();
+        if (jwtTokenProperties.getClaimProfile() == JwtTokenProperties.ClaimProfile.COMPACT) {
+            JwtBuilder builder = Jwts.builder()
+                    .setSubject(String.valueOf(principalDetails.getId()))
+                    .claim("r", Role.fromKey(role).getCode())
+                    .claim(COMPACT_AUTH_TIME, authTime);
+            if (generation != 0) {
+                builder.claim("g", generation);
+            }
+            return signAccessToken(ring, builder
+                    .setId(newTokenId())
+                    .setExpiration(expiration));
         }
+        return signAccessToken(ring, Jwts.builder()
+                .claim("memberId", principalDetails.getId())
+                .claim("role", role)
+                .claim("gen", generation)
+                .claim(AUTH_TIME, authTime)
+                .setId(newTokenId())
+                .setSubject(principalDetails.getUsername())
+                .setExpiration(expiration)
+                .setIssuedAt(Calendar.getInstance().getTime()));
+    }
 
-        Integer memberIdNumber = (Integer) claims.get("memberId");
-        Long memberId = memberIdNumber.longValue();
-        String authority = claims.get("role").toString();
-        PrincipalDetails principalDetails = PrincipalDetails.of(
-                memberId, claims.getSubject(), authority);
-        log.info("getAuthentication Role check : {}",
-                principalDetails.getAuthorities().iterator().next().getAuthority());
+    private String signAccessToken(HmacKeyRing ring, JwtBuilder builder) {
+        AsymmetricSigningKey asymmetricSigningKey = asymmetricKeyRing.activeKey();
+        if (asymmetricSigningKey != null) {
+            return builder.setHeaderParam(JwsHeader.KEY_ID, asymmetricSigningKey.keyId())
+                    .signWith(asymmetricSigningKey.privateKey(), asymmetricSigningKey.algorithm())
+                    .compact();
+        }
+        return builder.setHeaderParam(JwsHeader.KEY_ID, ring.activeKeyId())
+                .signWith(ring.activeKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public VerifiedToken verify(String accessToken) {
+        Hs256FastVerifier.FastClaims fastClaims = keyRing.verifyFast(accessToken);
+        if (fastClaims != null) {
+            PrincipalDetails principalDetails = PrincipalDetails.of(
+                    fastClaims.memberId(), fastClaims.email(), fastClaims.role());
+            String tokenId = fastClaims.tokenId();
+            return toVerifiedToken(principalDetails, tokenId != null ? tokenId : legacyTokenId(accessToken),
+                    fastClaims.generation(), fastClaims.expiresAt(), fastClaims.authenticatedAt());
+        }
+
+        Claims claims = parseVerifiedClaims(accessToken);
+        Date expiration = claims.getExpiration();
+        boolean compact = claims.containsKey("r");
+        Object generation = compact ? claims.get("g") : claims.get("gen");
+        Object authTime = compact ? claims.get(COMPACT_AUTH_TIME) : claims.get(AUTH_TIME);
+        return toVerifiedToken(toPrincipalDetails(claims), tokenId(claims, accessToken),
+                generation instanceof Number number ? number.longValue() : 0L,
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE,
+                authTime instanceof Number number ? number.longValue() * 1000 : 0L);
+    }
+
+    private VerifiedToken toVerifiedToken(PrincipalDetails principalDetails, String tokenId, long generation,
+                                          long expiresAt, long authenticatedAt) {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                principalDetails, null, principalDetails.getAuthorities());
+        return new VerifiedToken(principalDetails, authentication, tokenId, generation, expiresAt,
+                authenticatedAt);
+    }
+
+    public String tokenId(Claims claims, String token) {
+        return claims.getId() != null ? claims.getId() : legacyTokenId(token);
+    }
+
+    private static String legacyTokenId(String token) {
+        return TokenDigests.sha256(token).substring(0, TOKEN_ID_LENGTH);
+    }
+
+    private static String newTokenId() {
+        byte[] tokenId = new byte[TOKEN_ID_BYTES];
+        TOKEN_ID_RANDOM.nextBytes(tokenId);
+        return TOKEN_ID_ENCODER.encodeToString(tokenId);
+    }
+
+    public Authentication getAuthentication(String accessToken) {
+        log.info("getAuthentication execute accessToken: {}", accessToken);
+        Claims claims = parseClaims(accessToken);
+        PrincipalDetails principalDetails = toPrincipalDetails(claims);
         return new UsernamePasswordAuthenticationToken(principalDetails, null, principalDetails.getAuthorities());
     }
 
     public boolean validateToken(String token) {
         log.info("ValidateToken execute, token = {}", token);
+        parseVerifiedClaims(token);
+        return true;
+    }
+
+    private Claims parseVerifiedClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(this.key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (MalformedJwtException e) {
             log.info("Invalid JWT token");
             log.trace("Invalid JWT token trace = { }", e);
@@ -135,6 +262,35 @@ public class JwtTokenProvider {
         }
     }
 
+    private PrincipalDetails toPrincipalDetails(Claims claims) {
+        PrincipalDetails principalDetails = claims.containsKey("r")
+                ? toCompactPrincipalDetails(claims)
+                : toStandardPrincipalDetails(claims);
+        log.info("getAuthentication Role check : {}",
+                principalDetails.getAuthorities().iterator().next().getAuthority());
+        return principalDetails;
+    }
+
+    private PrincipalDetails toStandardPrincipalDetails(Claims claims) {
+        if (claims.get("role") == null || !(claims.get("memberId") instanceof Number memberId)) {
+            log.debug("getAuthentication exception execute : no role or id in accessToken subject : {}",
+                    claims.getSubject());
+            throw new BadCredentialsException("Invalid access token");
+        }
+        return PrincipalDetails.of(memberId.longValue(), claims.getSubject(), claims.get("role").toString());
+    }
+
+    private PrincipalDetails toCompactPrincipalDetails(Claims claims) {
+        try {
+            Role role = Role.fromCode(claims.get("r", String.class));
+            return PrincipalDetails.of(Long.parseLong(claims.getSubject()), claims.get("e", String.class),
+                    role.getKey());
+        } catch (IllegalArgumentException e) {
+            log.debug("getAuthentication exception execute : invalid compact claims : {}", claims.getSubject());
+            throw new BadCredentialsException("Invalid access token", e);
+        }
+    }
+
     private Date getTokenExpiration(long expirationPeriod) {
         Date date = new Date();
         return new Date(date.getTime() + expirationPeriod);
@@ -142,11 +298,7 @@ public class JwtTokenProvider {
 
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
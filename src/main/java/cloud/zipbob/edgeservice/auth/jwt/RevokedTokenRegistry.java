@@ -0,0 +1,129 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 access token의 jti를 토큰 만료 분(minute) 단위 Redis set에 보관한다.
+ * 버킷은 마지막 토큰이 만료되는 시점에 통째로 만료되며, 로컬 사본은 pub/sub으로 동기화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenRegistry implements MessageListener {
+    static final String KEY_PREFIX = "revoked:";
+    static final String CHANNEL = "token-revocations";
+    private static final char SEPARATOR = ':';
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int SCAN_COUNT = 100;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisRoundTrips redisRoundTrips;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<String, Long> revokedTokens = Caffeine.newBuilder()
+            .expireAfter(new RevocationExpiry())
+            .build();
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        try {
+            loadFromRedis();
+        } catch (RuntimeException e) {
+            log.error("Failed to load revoked tokens from redis", e);
+        }
+    }
+
+    public void revoke(String tokenId, long expiresAt) {
+        long bucket = bucketOf(expiresAt);
+        long bucketExpiresAt = bucket * BUCKET_MILLIS;
+        String key = KEY_PREFIX + bucket;
+        redisRoundTrips.pipeline(connection -> {
+            connection.sAdd(key, tokenId);
+            connection.pExpireAt(key, bucketExpiresAt);
+            connection.publish(CHANNEL, tokenId + SEPARATOR + bucketExpiresAt);
+        });
+        revokedTokens.put(tokenId, bucketExpiresAt);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return revokedTokens.getIfPresent(tokenId) != null;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(SEPARATOR);
+        if (separator <= 0) {
+            log.warn("Ignoring malformed revocation message : {}", body);
+            return;
+        }
+        try {
+            revokedTokens.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed revocation message : {}", body);
+        }
+    }
+
+    private void loadFromRedis() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                loadBucket(cursor.next());
+            }
+        }
+        log.info("Loaded {} revoked tokens from redis", revokedTokens.estimatedSize());
+    }
+
+    private void loadBucket(String key) {
+        long bucket;
+        try {
+            bucket = Long.parseLong(key.substring(KEY_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return;
+        }
+        Set<String> tokenIds = stringRedisTemplate.opsForSet().members(key);
+        if (tokenIds != null) {
+            long bucketExpiresAt = bucket * BUCKET_MILLIS;
+            tokenIds.forEach(tokenId -> revokedTokens.put(tokenId, bucketExpiresAt));
+        }
+    }
+
+    private static long bucketOf(long expiresAt) {
+        return Math.floorDiv(expiresAt, BUCKET_MILLIS) + 1;
+    }
+
+    private static final class RevocationExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String tokenId, Long expiresAt, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenId, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
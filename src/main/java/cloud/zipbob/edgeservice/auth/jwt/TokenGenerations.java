@@ -0,0 +1,121 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import cloud.zipbob.edgeservice.global.redis.RedisResilienceProperties;
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import cloud.zipbob.edgeservice.global.redis.RedisUnavailableException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 토큰 세대(generation). 세대를 올리면 그 이전에 발급된 access token은 모두 거부된다.
+ * 현재 세대는 로컬 캐시에 두고, 변경은 pub/sub으로 다른 인스턴스에 전파한다.
+ */
+@Slf4j
+@Component
+public class TokenGenerations implements MessageListener {
+    static final String KEY_PREFIX = "token-gen:";
+    static final String CHANNEL = "token-generations";
+    private static final char SEPARATOR = ':';
+
+    private static final DefaultRedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[1])
+            redis.call('PUBLISH', ARGV[1], ARGV[2] .. ':' .. generation)
+            return generation
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> PROMOTE_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[1])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('HSET', KEYS[2], 'role', ARGV[3], 'gen', generation)
+            end
+            redis.call('PUBLISH', ARGV[1], ARGV[2] .. ':' .. generation)
+            return generation
+            """, Long.class);
+
+    private final RedisRoundTrips redisRoundTrips;
+    private final RedisResilienceProperties redisResilienceProperties;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LoadingCache<Long, Long> generations;
+
+    public TokenGenerations(RedisRoundTrips redisRoundTrips, RedisResilienceProperties redisResilienceProperties,
+                            RedisMessageListenerContainer listenerContainer, JwtTokenProperties jwtTokenProperties) {
+        this.redisRoundTrips = redisRoundTrips;
+        this.redisResilienceProperties = redisResilienceProperties;
+        this.listenerContainer = listenerContainer;
+        JwtTokenProperties.GenerationProperties properties = jwtTokenProperties.getGeneration();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .build(this::load);
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public long current(long memberId) {
+        try {
+            return generations.get(memberId);
+        } catch (RedisUnavailableException e) {
+            if (redisResilienceProperties.failOpen(RedisResilienceProperties.TOKEN_GENERATION)) {
+                log.debug("Token generation of member {} assumed current : {}", memberId, e.getMessage());
+                return 0L;
+            }
+            throw e;
+        }
+    }
+
+    public boolean isCurrent(long memberId, long generation) {
+        return generation >= current(memberId);
+    }
+
+    public long revokeAll(long memberId) {
+        Long generation = redisRoundTrips.script(REVOKE_ALL_SCRIPT, List.of(KEY_PREFIX + memberId), CHANNEL,
+                String.valueOf(memberId));
+        long current = generation != null ? generation : 0L;
+        generations.put(memberId, current);
+        log.info("Revoked all sessions of member {}, generation : {}", memberId, current);
+        return current;
+    }
+
+    /**
+     * 역할 변경. 세대 증가와 refresh token 기록(hash)의 role/gen 변경을 한 스크립트에서 처리해,
+     * 새 세대를 가진 기록이 이전 역할로 재발급되는 틈을 없앤다. 기록이 없으면 세대만 올린다.
+     */
+    public long promote(long memberId, String refreshKey, String role) {
+        Long generation = redisRoundTrips.script(PROMOTE_SCRIPT, List.of(KEY_PREFIX + memberId, refreshKey),
+                CHANNEL, String.valueOf(memberId), role);
+        long current = generation != null ? generation : 0L;
+        generations.put(memberId, current);
+        log.info("Promoted member {} to {}, generation : {}", memberId, role, current);
+        return current;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        try {
+            generations.put(Long.parseLong(body.substring(0, separator)),
+                    Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed generation message : {}", body);
+        }
+    }
+
+    private Long load(Long memberId) {
+        String generation = redisRoundTrips.call(redis -> redis.opsForValue().get(KEY_PREFIX + memberId));
+        return generation != null ? Long.parseLong(generation) : 0L;
+    }
+}
@@ -0,0 +1,11 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import cloud.zipbob.edgeservice.auth.PrincipalDetails;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 검증을 마친 access token. authenticatedAt은 최초 로그인 시각(ms)이며, 해당 claim이 없는 이전 토큰은 0이다.
+ */
+public record VerifiedToken(PrincipalDetails principal, Authentication authentication, String tokenId,
+                            long generation, long expiresAt, long authenticatedAt) {
+}
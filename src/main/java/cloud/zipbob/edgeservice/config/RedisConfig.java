@@ -1,5 +1,18 @@
 package cloud.zipbob.edgeservice.config;
 
+import cloud.zipbob.edgeservice.global.cache.CacheLoadCoordinator;
+import cloud.zipbob.edgeservice.global.cache.TwoTierCacheManager;
+import cloud.zipbob.edgeservice.global.cache.TwoTierCacheProperties;
+import cloud.zipbob.edgeservice.global.redis.ClientSideCachingRedisCacheWriter;
+import cloud.zipbob.edgeservice.global.redis.RedisClientSideCache;
+import cloud.zipbob.edgeservice.global.redis.RedisResilienceProperties;
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import cloud.zipbob.edgeservice.global.redis.codec.BinaryCodec;
+import cloud.zipbob.edgeservice.global.redis.codec.CompactRedisSerializer;
+import cloud.zipbob.edgeservice.global.redis.codec.RedisCodecProperties;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.cache.CacheManager;
@@ -7,16 +20,21 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -25,39 +43,76 @@ import java.util.Map;
 public class RedisConfig {
 
     private final RedisProperties properties;
+    private final RedisResilienceProperties redisResilienceProperties;
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(properties.getHost(), properties.getPort());
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(redisResilienceProperties.getCommandTimeout())
+                .clientOptions(ClientOptions.builder()
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .timeoutOptions(TimeoutOptions.enabled(redisResilienceProperties.getCommandTimeout()))
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(properties.getHost(), properties.getPort()), clientConfiguration);
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    public CompactRedisSerializer compactRedisSerializer(List<BinaryCodec<?>> codecs,
+                                                         RedisCodecProperties redisCodecProperties) {
+        return new CompactRedisSerializer(codecs, redisCodecProperties.getWriteFormat());
+    }
+
+    @Bean
+    public RedisTemplate<String, Object> redisTemplate(CompactRedisSerializer compactRedisSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(compactRedisSerializer);
         template.setConnectionFactory(redisConnectionFactory());
         return template;
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory factory) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        return container;
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory factory, RedisClientSideCache redisClientSideCache,
+                                     CompactRedisSerializer compactRedisSerializer,
+                                     TwoTierCacheProperties twoTierCacheProperties, RedisRoundTrips redisRoundTrips,
+                                     CacheLoadCoordinator cacheLoadCoordinator,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     MeterRegistry meterRegistry) {
+        RedisSerializationContext.SerializationPair<Object> values =
+                RedisSerializationContext.SerializationPair.fromSerializer(compactRedisSerializer);
         RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                        new GenericJackson2JsonRedisSerializer()))
+                .serializeValuesWith(values)
                 .entryTtl(Duration.ofMinutes(5));
 
-        RedisCacheConfiguration memberCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1));
-
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        cacheConfigurations.put("memberInfoCache", memberCacheConfig);
+        twoTierCacheProperties.getCaches().forEach((name, tier) -> cacheConfigurations.put(name,
+                RedisCacheConfiguration.defaultCacheConfig()
+                        .serializeValuesWith(values)
+                        .entryTtl(tier.getRedisTtl())));
 
-        return RedisCacheManager.builder(factory)
+        RedisCacheWriter cacheWriter = new ClientSideCachingRedisCacheWriter(
+                RedisCacheWriter.nonLockingRedisCacheWriter(factory), redisClientSideCache);
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(cacheConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.initializeCaches();
+
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(
+                redisCacheManager, twoTierCacheProperties, redisRoundTrips, cacheLoadCoordinator, meterRegistry);
+        redisMessageListenerContainer.addMessageListener(cacheManager,
+                new ChannelTopic(twoTierCacheProperties.getChannel()));
+        return cacheManager;
     }
 }
@@ -1,9 +1,16 @@
 package cloud.zipbob.edgeservice.config;
 
 import cloud.zipbob.edgeservice.auth.filter.JwtVerificationFilter;
+import cloud.zipbob.edgeservice.auth.filter.RateLimitingFilter;
+import cloud.zipbob.edgeservice.auth.jwt.AccessTokenRenewer;
 import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProvider;
+import cloud.zipbob.edgeservice.auth.jwt.RevokedTokenRegistry;
+import cloud.zipbob.edgeservice.auth.jwt.TokenGenerations;
+import cloud.zipbob.edgeservice.auth.jwt.VerifiedTokenCache;
 import cloud.zipbob.edgeservice.global.CustomAccessDeniedHandler;
-import cloud.zipbob.edgeservice.global.redis.RedisService;
+import cloud.zipbob.edgeservice.global.redis.HybridRateLimiter;
+import cloud.zipbob.edgeservice.global.redis.RateLimitPolicyTable;
+import cloud.zipbob.edgeservice.global.redis.RateLimitProperties;
 import cloud.zipbob.edgeservice.oauth2.CustomOAuth2AuthorizationRequestRepository;
 import cloud.zipbob.edgeservice.oauth2.CustomOAuth2MemberService;
 import cloud.zipbob.edgeservice.oauth2.handler.OAuth2LoginFailureHandler;
@@ -38,7 +45,13 @@ public class SecurityConfig {
     private final OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
     private final CustomOAuth2MemberService customOAuth2MemberService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisService redisService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final TokenGenerations tokenGenerations;
+    private final AccessTokenRenewer accessTokenRenewer;
+    private final HybridRateLimiter hybridRateLimiter;
+    private final RateLimitPolicyTable rateLimitPolicyTable;
+    private final RateLimitProperties rateLimitProperties;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http, CustomOAuth2AuthorizationRequestRepository customOAuth2AuthorizationRequestRepository) throws Exception {
@@ -53,7 +66,8 @@ public class SecurityConfig {
                         .accessDeniedHandler(customAccessDeniedHandler))
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
                         .requestMatchers("/auth/reissue",
-                                "/members/nickname-check/**", "/actuator/**")
+                                "/members/nickname-check/**", "/members/nickname-suggest/**",
+                                "/actuator/**", "/.well-known/jwks.json")
                         .permitAll()
                         .anyRequest().authenticated())
                 .oauth2Login((oauth2Login) ->
@@ -68,8 +82,11 @@ public class SecurityConfig {
                 .logout(logout -> logout.deleteCookies("JSESSIONID")
                         .logoutUrl("/auth/logout"));
 
-        http.addFilterBefore(new JwtVerificationFilter(jwtTokenProvider, redisService),
+        http.addFilterBefore(new JwtVerificationFilter(jwtTokenProvider, verifiedTokenCache,
+                        revokedTokenRegistry, tokenGenerations, accessTokenRenewer),
                 UsernamePasswordAuthenticationFilter.class);
+        http.addFilterAfter(new RateLimitingFilter(hybridRateLimiter, rateLimitPolicyTable, rateLimitProperties),
+                JwtVerificationFilter.class);
 
         return http.build();
     }
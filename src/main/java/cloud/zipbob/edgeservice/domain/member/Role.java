@@ -1,12 +1,28 @@
 package cloud.zipbob.edgeservice.domain.member;
 
+import java.util.Arrays;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
 public enum Role {
-    GUEST("ROLE_GUEST"), USER("ROLE_USER");
+    GUEST("ROLE_GUEST", "G"), USER("ROLE_USER", "U");
 
     private final String key;
+    private final String code;
+
+    public static Role fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(role -> role.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown role key : " + key));
+    }
+
+    public static Role fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(role -> role.code.equals(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown role code : " + code));
+    }
 }
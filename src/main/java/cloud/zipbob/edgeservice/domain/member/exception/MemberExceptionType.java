@@ -8,7 +8,8 @@ public enum MemberExceptionType implements BaseExceptionType {
     ALREADY_EXIST_NICKNAME("M002", "이미 존재하는 닉네임입니다.", HttpStatus.CONFLICT),
     MEMBER_NOT_FOUND("M003", "일치하는 회원이 존재하지 않습니다.", HttpStatus.NOT_FOUND),
     WRONG_ROLE("M004", "잘못된 역할 권한입니다.", HttpStatus.BAD_REQUEST),
-    NOT_MATCH_NICKNAME("M005", "기존 닉네임과 일치하지 않습니다", HttpStatus.BAD_REQUEST);
+    NOT_MATCH_NICKNAME("M005", "기존 닉네임과 일치하지 않습니다", HttpStatus.BAD_REQUEST),
+    INVALID_NICKNAME_PREFIX("M006", "추천 닉네임 접두어는 1~20글자이어야 합니다.", HttpStatus.BAD_REQUEST);
 
     private final String errorCode;
     private final String errorMessage;
@@ -0,0 +1,4 @@
+package cloud.zipbob.edgeservice.domain.member.nickname;
+
+public record NicknameChangedEvent(String previous, String current) {
+}
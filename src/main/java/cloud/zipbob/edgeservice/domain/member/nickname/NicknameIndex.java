@@ -0,0 +1,210 @@
+package cloud.zipbob.edgeservice.domain.member.nickname;
+
+import cloud.zipbob.edgeservice.domain.member.repository.MemberRepository;
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import cloud.zipbob.edgeservice.global.redis.RedisUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용 중인 닉네임의 메모리 색인. 기동 시 members 테이블을 스트리밍해 radix trie 하나로 만들고,
+ * 커밋된 변경은 pub/sub으로 모든 노드에 전파한다. 표기까지 같은 닉네임과 trie에 없는 닉네임은 색인만으로 답하고,
+ * 대소문자만 다른 닉네임이 있을 때만 DB에 확인한다. 전파가 실패하거나 메시지를 놓쳐 생긴 차이는
+ * rebuild-interval마다 DB에서 다시 만들어 바로잡는다.
+ */
+@Slf4j
+@Component
+public class NicknameIndex implements MessageListener {
+    private static final char SEPARATOR = '\n';
+
+    private final MemberRepository memberRepository;
+    private final RedisRoundTrips redisRoundTrips;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final NicknameIndexProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Queue<NicknameChangedEvent> changesWhileRebuilding = new ConcurrentLinkedQueue<>();
+    private volatile NicknameTrie trie;
+    private boolean rebuilding;
+    private ScheduledExecutorService scheduler;
+
+    public NicknameIndex(MemberRepository memberRepository, RedisRoundTrips redisRoundTrips,
+                         RedisMessageListenerContainer listenerContainer, NicknameIndexProperties properties,
+                         PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.redisRoundTrips = redisRoundTrips;
+        this.listenerContainer = listenerContainer;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (properties.isEnabled()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        rebuild();
+        long intervalMillis = properties.getRebuildInterval().toMillis();
+        if (intervalMillis > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "nickname-index-rebuild");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::rebuild, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * DB에서 색인을 새로 만들어 교체한다. 만드는 동안 들어온 변경은 기존 색인에 반영하는 동시에 모아 두었다가
+     * 새 색인에도 다시 적용한다. trie의 추가와 삭제는 여러 번 적용해도 결과가 같으므로 스트림에 이미 담긴
+     * 변경이 다시 적용되어도 안전하다.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+        }
+        NicknameTrie rebuilt = null;
+        try {
+            rebuilt = readOnlyTransaction.execute(status -> {
+                NicknameTrie loaded = new NicknameTrie();
+                try (Stream<String> nicknames = memberRepository.streamNicknames()) {
+                    nicknames.forEach(loaded::add);
+                }
+                return loaded;
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to build nickname index, keeping the previous index", e);
+        } finally {
+            swap(rebuilt);
+        }
+    }
+
+    public boolean isTaken(String nickname) {
+        NicknameTrie current = trie;
+        if (current == null) {
+            return memberRepository.existsByNickname(nickname);
+        }
+        if (current.contains(nickname)) {
+            return true;
+        }
+        return current.containsIgnoreCase(nickname) && memberRepository.existsByNickname(nickname);
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        int size = Math.max(1, Math.min(limit, properties.getMaxSuggestions()));
+        NicknameTrie current = trie;
+        if (current != null) {
+            return current.suggest(prefix, size, properties.getSuggestionAttempts());
+        }
+        List<String> suggestions = new ArrayList<>(size);
+        for (int attempt = 0; attempt < properties.getSuggestionAttempts() && suggestions.size() < size; attempt++) {
+            String candidate = attempt == 0 ? prefix : prefix + attempt;
+            if (!memberRepository.existsByNickname(candidate)) {
+                suggestions.add(candidate);
+            }
+        }
+        return suggestions;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNicknameChanged(NicknameChangedEvent event) {
+        apply(event);
+        String body = nodeId + SEPARATOR + nullToEmpty(event.previous()) + SEPARATOR + nullToEmpty(event.current());
+        try {
+            redisRoundTrips.call(template -> template.convertAndSend(properties.getChannel(), body));
+        } catch (RedisUnavailableException e) {
+            log.warn("Failed to publish nickname change : {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed nickname change message");
+            return;
+        }
+        if (!nodeId.equals(parts[0])) {
+            apply(new NicknameChangedEvent(emptyToNull(parts[1]), emptyToNull(parts[2])));
+        }
+    }
+
+    private synchronized void apply(NicknameChangedEvent event) {
+        if (rebuilding) {
+            changesWhileRebuilding.add(event);
+        }
+        NicknameTrie current = trie;
+        if (current != null) {
+            apply(current, event);
+        }
+    }
+
+    private synchronized void swap(NicknameTrie rebuilt) {
+        NicknameChangedEvent event;
+        while ((event = changesWhileRebuilding.poll()) != null) {
+            if (rebuilt != null) {
+                apply(rebuilt, event);
+            }
+        }
+        if (rebuilt != null) {
+            trie = rebuilt;
+            log.info("Rebuilt nickname index");
+        }
+        rebuilding = false;
+    }
+
+    private static void apply(NicknameTrie target, NicknameChangedEvent event) {
+        if (event.previous() != null) {
+            target.remove(event.previous());
+        }
+        if (event.current() != null) {
+            target.add(event.current());
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,21 @@
+package cloud.zipbob.edgeservice.domain.member.nickname;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "nickname-index")
+public class NicknameIndexProperties {
+    private boolean enabled = true;
+
+    private String channel = "nickname-changes";
+
+    private Duration rebuildInterval = Duration.ofMinutes(30);
+
+    private int maxSuggestions = 20;
+
+    private int suggestionAttempts = 200;
+}
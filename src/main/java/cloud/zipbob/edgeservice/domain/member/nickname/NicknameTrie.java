@@ -0,0 +1,271 @@
+package cloud.zipbob.edgeservice.domain.member.nickname;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용 중인 닉네임의 radix trie. 소문자로 맞춘 닉네임을 키로, 간선마다 공통 접두사를 한 문자열로 묶고
+ * 자식은 첫 글자로 정렬된 배열에 둔다. 대소문자만 다른 닉네임이 함께 있을 수 있어 끝 노드는 원래 표기를
+ * 모아 두며, 같은 닉네임을 두 번 넣거나 빼도 결과가 같다.
+ */
+final class NicknameTrie {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final String[] NO_VARIANTS = new String[0];
+
+    private final Node root = new Node("");
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void add(String nickname) {
+        String word = normalize(nickname);
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < word.length()) {
+                int index = node.indexOf(word.charAt(position));
+                if (index < 0) {
+                    Node leaf = new Node(word.substring(position));
+                    leaf.addVariant(nickname);
+                    node.insertChild(leaf);
+                    return;
+                }
+                Node child = node.children[index];
+                int common = commonPrefixLength(child.label, word, position);
+                if (common < child.label.length()) {
+                    Node split = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.insertChild(child);
+                    node.children[index] = split;
+                    child = split;
+                }
+                node = child;
+                position += common;
+            }
+            node.addVariant(nickname);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String nickname) {
+        lock.writeLock().lock();
+        try {
+            remove(root, normalize(nickname), 0, nickname);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 표기까지 똑같은 닉네임이 있는지 확인한다.
+     */
+    boolean contains(String nickname) {
+        lock.readLock().lock();
+        try {
+            Node node = find(root, normalize(nickname), 0);
+            return node != null && node.hasVariant(nickname);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 대소문자를 무시하고 같은 닉네임이 있는지 확인한다.
+     */
+    boolean containsIgnoreCase(String nickname) {
+        lock.readLock().lock();
+        try {
+            Node node = find(root, normalize(nickname), 0);
+            return node != null && node.isTerminal();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * prefix, prefix1, prefix2 ... 순서로 대소문자를 무시하고 trie에 없는 후보를 최대 limit개 돌려준다.
+     * prefix로 시작하는 닉네임이 하나도 없으면 trie를 더 내려가지 않는다.
+     */
+    List<String> suggest(String prefix, int limit, int maxAttempts) {
+        List<String> suggestions = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            Cursor cursor = locate(normalize(prefix));
+            for (int attempt = 0; attempt < maxAttempts && suggestions.size() < limit; attempt++) {
+                String suffix = attempt == 0 ? "" : String.valueOf(attempt);
+                if (cursor == null || !cursor.contains(suffix)) {
+                    suggestions.add(prefix + suffix);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    private Cursor locate(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            int index = node.indexOf(prefix.charAt(position));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (position + common == prefix.length()) {
+                return new Cursor(child, common);
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            position += common;
+        }
+        return new Cursor(node, node.label.length());
+    }
+
+    private static Node find(Node node, String word, int position) {
+        while (position < word.length()) {
+            int index = node.indexOf(word.charAt(position));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            if (!word.startsWith(child.label, position)) {
+                return null;
+            }
+            node = child;
+            position += child.label.length();
+        }
+        return node;
+    }
+
+    private static boolean remove(Node node, String word, int position, String nickname) {
+        if (position == word.length()) {
+            node.removeVariant(nickname);
+        } else {
+            int index = node.indexOf(word.charAt(position));
+            if (index < 0) {
+                return false;
+            }
+            Node child = node.children[index];
+            if (!word.startsWith(child.label, position)
+                    || !remove(child, word, position + child.label.length(), nickname)) {
+                return false;
+            }
+            if (!child.isTerminal() && child.children.length == 0) {
+                node.removeChild(index);
+            } else if (!child.isTerminal() && child.children.length == 1) {
+                Node grandchild = child.children[0];
+                grandchild.label = child.label + grandchild.label;
+                node.children[index] = grandchild;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+
+    private static int commonPrefixLength(String label, String word, int position) {
+        int max = Math.min(label.length(), word.length() - position);
+        int length = 0;
+        while (length < max && label.charAt(length) == word.charAt(position + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private record Cursor(Node node, int consumed) {
+
+        boolean contains(String suffix) {
+            String rest = node.label.substring(consumed);
+            if (!suffix.startsWith(rest)) {
+                return false;
+            }
+            Node end = find(node, suffix, rest.length());
+            return end != null && end.isTerminal();
+        }
+    }
+
+    private static final class Node {
+        private String label;
+        private String[] variants = NO_VARIANTS;
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private boolean isTerminal() {
+            return variants.length > 0;
+        }
+
+        private boolean hasVariant(String nickname) {
+            for (String variant : variants) {
+                if (variant.equals(nickname)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addVariant(String nickname) {
+            if (!hasVariant(nickname)) {
+                variants = Arrays.copyOf(variants, variants.length + 1);
+                variants[variants.length - 1] = nickname;
+            }
+        }
+
+        private void removeVariant(String nickname) {
+            for (int i = 0; i < variants.length; i++) {
+                if (variants[i].equals(nickname)) {
+                    String[] remaining = new String[variants.length - 1];
+                    System.arraycopy(variants, 0, remaining, 0, i);
+                    System.arraycopy(variants, i + 1, remaining, i, variants.length - i - 1);
+                    variants = remaining;
+                    return;
+                }
+            }
+        }
+
+        private int indexOf(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? index : -1;
+        }
+
+        private void insertChild(Node child) {
+            char key = child.label.charAt(0);
+            int insertAt = -Arrays.binarySearch(keys, key) - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = child;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        private void removeChild(int index) {
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package cloud.zipbob.edgeservice.domain.member.repository;
+
+import cloud.zipbob.edgeservice.domain.member.Role;
+
+public record MemberAuthView(Long id, String email, Role role) {
+}
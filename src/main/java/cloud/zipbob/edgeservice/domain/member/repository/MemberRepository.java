@@ -1,11 +1,18 @@
 package cloud.zipbob.edgeservice.domain.member.repository;
 
 import cloud.zipbob.edgeservice.domain.member.Member;
+import cloud.zipbob.edgeservice.domain.member.response.MyInfoResponse;
 import cloud.zipbob.edgeservice.oauth2.SocialType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -13,5 +20,27 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByNickname(String nickname);
 
+    boolean existsByEmail(String email);
+
+    boolean existsByNickname(String nickname);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("select new cloud.zipbob.edgeservice.domain.member.response.MyInfoResponse(m.id, m.email, m.nickname)"
+            + " from Member m where m.email = :email")
+    Optional<MyInfoResponse> findMyInfoByEmail(@Param("email") String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("select new cloud.zipbob.edgeservice.domain.member.repository.MemberAuthView(m.id, m.email, m.role)"
+            + " from Member m where m.email = :email")
+    Optional<MemberAuthView> findAuthViewByEmail(@Param("email") String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("select m.email from Member m where m.id = :id")
+    Optional<String> findEmailById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m.nickname from Member m where m.nickname is not null")
+    Stream<String> streamNicknames();
+
     Optional<Member> findBySocialTypeAndSocialId(SocialType socialType, String socialId);
 }
@@ -0,0 +1,38 @@
+package cloud.zipbob.edgeservice.domain.member.response;
+
+import cloud.zipbob.edgeservice.global.redis.codec.BinaryCodec;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MyInfoResponseCodec implements BinaryCodec<MyInfoResponse> {
+    private static final byte TYPE_ID = 1;
+
+    @Override
+    public Class<MyInfoResponse> type() {
+        return MyInfoResponse.class;
+    }
+
+    @Override
+    public byte typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public void write(DataOutput out, MyInfoResponse value) throws IOException {
+        out.writeBoolean(value.getId() != null);
+        if (value.getId() != null) {
+            out.writeLong(value.getId());
+        }
+        BinaryCodec.writeNullableString(out, value.getEmail());
+        BinaryCodec.writeNullableString(out, value.getNickname());
+    }
+
+    @Override
+    public MyInfoResponse read(DataInput in) throws IOException {
+        Long id = in.readBoolean() ? in.readLong() : null;
+        return new MyInfoResponse(id, BinaryCodec.readNullableString(in), BinaryCodec.readNullableString(in));
+    }
+}
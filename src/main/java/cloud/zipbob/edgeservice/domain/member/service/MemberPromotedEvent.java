@@ -0,0 +1,4 @@
+package cloud.zipbob.edgeservice.domain.member.service;
+
+public record MemberPromotedEvent(Long memberId, String email, String role) {
+}
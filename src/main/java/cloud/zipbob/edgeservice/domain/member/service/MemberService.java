@@ -7,6 +7,7 @@ import cloud.zipbob.edgeservice.domain.member.response.MemberUpdateResponse;
 import cloud.zipbob.edgeservice.domain.member.response.MemberWithdrawResponse;
 import cloud.zipbob.edgeservice.domain.member.response.MyInfoResponse;
 import cloud.zipbob.edgeservice.domain.member.response.OAuth2JoinResponse;
+import java.util.List;
 
 public interface MemberService {
     MemberUpdateResponse update(MemberUpdateRequest request, String email);
@@ -18,4 +19,6 @@ public interface MemberService {
     MyInfoResponse getMyInfo(String email);
 
     boolean checkNickname(String nickname);
+
+    List<String> suggestNicknames(String prefix, int size);
 }
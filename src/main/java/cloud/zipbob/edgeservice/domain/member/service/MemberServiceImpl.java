@@ -5,6 +5,8 @@ import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProvider;
 import cloud.zipbob.edgeservice.domain.member.Member;
 import cloud.zipbob.edgeservice.domain.member.exception.MemberException;
 import cloud.zipbob.edgeservice.domain.member.exception.MemberExceptionType;
+import cloud.zipbob.edgeservice.domain.member.nickname.NicknameChangedEvent;
+import cloud.zipbob.edgeservice.domain.member.nickname.NicknameIndex;
 import cloud.zipbob.edgeservice.domain.member.repository.MemberRepository;
 import cloud.zipbob.edgeservice.domain.member.request.MemberUpdateRequest;
 import cloud.zipbob.edgeservice.domain.member.request.MemberWithdrawRequest;
@@ -13,20 +15,26 @@ import cloud.zipbob.edgeservice.domain.member.response.MemberUpdateResponse;
 import cloud.zipbob.edgeservice.domain.member.response.MemberWithdrawResponse;
 import cloud.zipbob.edgeservice.domain.member.response.MyInfoResponse;
 import cloud.zipbob.edgeservice.domain.member.response.OAuth2JoinResponse;
-import cloud.zipbob.edgeservice.global.redis.RedisService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
+    private static final int MIN_SUGGEST_PREFIX_LENGTH = 1;
+    private static final int MAX_SUGGEST_PREFIX_LENGTH = 20;
+    private static final int MAX_SUGGEST_SIZE = 20;
+
     private final MemberRepository memberRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisService redisService;
     private final JwtTokenProperties jwtTokenProperties;
+    private final NicknameIndex nicknameIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -34,9 +42,10 @@ public class MemberServiceImpl implements MemberService {
     public MemberUpdateResponse update(MemberUpdateRequest request, String email) {
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new MemberException(MemberExceptionType.MEMBER_NOT_FOUND));
-        if (memberRepository.findByNickname(request.newNickname()).isPresent()) {
+        if (memberRepository.existsByNickname(request.newNickname())) {
             throw new MemberException(MemberExceptionType.ALREADY_EXIST_NICKNAME);
         }
+        eventPublisher.publishEvent(new NicknameChangedEvent(member.getNickname(), request.newNickname()));
         member.updateNickname(request.newNickname());
         return MemberUpdateResponse.of(member);
     }
@@ -46,11 +55,13 @@ public class MemberServiceImpl implements MemberService {
     public OAuth2JoinResponse oauth2Join(OAuth2JoinRequest request, String email) {
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new MemberException(MemberExceptionType.MEMBER_NOT_FOUND));
-        if (memberRepository.findByNickname(request.nickname()).isPresent()) {
+        if (memberRepository.existsByNickname(request.nickname())) {
             throw new MemberException(MemberExceptionType.ALREADY_EXIST_NICKNAME);
         }
+        eventPublisher.publishEvent(new NicknameChangedEvent(member.getNickname(), request.nickname()));
         member.updateNickname(request.nickname());
         member.authorizeUser();
+        eventPublisher.publishEvent(new MemberPromotedEvent(member.getId(), email, member.getRole().getKey()));
         return OAuth2JoinResponse.of(member);
     }
 
@@ -64,21 +75,31 @@ public class MemberServiceImpl implements MemberService {
             throw new MemberException(MemberExceptionType.NOT_MATCH_NICKNAME);
         }
         memberRepository.delete(member);
+        eventPublisher.publishEvent(new NicknameChangedEvent(member.getNickname(), null));
+        eventPublisher.publishEvent(new MemberWithdrawnEvent(member.getId(), email));
         return MemberWithdrawResponse.of(email);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "memberInfoCache", key = "#root.args[0] != null ? #root.args[0] : 'defaultKey'")
+    @Cacheable(value = "memberInfoCache", key = "#root.args[0] != null ? #root.args[0] : 'defaultKey'", sync = true)
     public MyInfoResponse getMyInfo(String email) {
-        Member member = memberRepository.findByEmail(email)
+        return memberRepository.findMyInfoByEmail(email)
                 .orElseThrow(() -> new MemberException(MemberExceptionType.MEMBER_NOT_FOUND));
-        return MyInfoResponse.of(member);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean checkNickname(String nickname) {
-        return memberRepository.findByNickname(nickname).isPresent();
+        return nicknameIndex.isTaken(nickname);
+    }
+
+    @Override
+    public List<String> suggestNicknames(String prefix, int size) {
+        if (prefix == null || prefix.isBlank() || prefix.length() < MIN_SUGGEST_PREFIX_LENGTH
+                || prefix.length() > MAX_SUGGEST_PREFIX_LENGTH) {
+            throw new MemberException(MemberExceptionType.INVALID_NICKNAME_PREFIX);
+        }
+        return nicknameIndex.suggest(prefix, Math.max(1, Math.min(size, MAX_SUGGEST_SIZE)));
     }
 }
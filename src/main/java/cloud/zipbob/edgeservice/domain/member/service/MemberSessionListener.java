@@ -0,0 +1,97 @@
+package cloud.zipbob.edgeservice.domain.member.service;
+
+import cloud.zipbob.edgeservice.auth.RefreshTokenStore;
+import cloud.zipbob.edgeservice.auth.jwt.TokenGenerations;
+import cloud.zipbob.edgeservice.global.redis.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원 변경에 따른 Redis 세션 정리. DB 커밋 이후에만 실행되어 롤백된 변경이 세션에 남지 않는다.
+ * 커밋은 이미 끝났으므로 Redis 실패를 호출자에게 던지지 않고, 간격을 늘려 가며 정해진 횟수만큼 다시 시도한다.
+ * 모두 실패하면 error 로그와 실패 지표를 남긴다.
+ */
+@Slf4j
+@Component
+public class MemberSessionListener {
+    static final int MAX_ATTEMPTS = 3;
+    private static final Duration RETRY_DELAY = Duration.ofMillis(500);
+    private static final String METRIC_NAME = "member.session.sync";
+
+    private final TokenGenerations tokenGenerations;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RedisService redisService;
+    private final ScheduledExecutorService retryScheduler;
+    private final Counter retries;
+    private final Counter failures;
+
+    public MemberSessionListener(TokenGenerations tokenGenerations, RefreshTokenStore refreshTokenStore,
+                                 RedisService redisService, MeterRegistry meterRegistry) {
+        this(tokenGenerations, refreshTokenStore, redisService, meterRegistry,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "member-session-retry");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    MemberSessionListener(TokenGenerations tokenGenerations, RefreshTokenStore refreshTokenStore,
+                          RedisService redisService, MeterRegistry meterRegistry,
+                          ScheduledExecutorService retryScheduler) {
+        this.tokenGenerations = tokenGenerations;
+        this.refreshTokenStore = refreshTokenStore;
+        this.redisService = redisService;
+        this.retryScheduler = retryScheduler;
+        this.retries = meterRegistry.counter(METRIC_NAME, "result", "retry");
+        this.failures = meterRegistry.counter(METRIC_NAME, "result", "failure");
+    }
+
+    @PreDestroy
+    public void destroy() {
+        retryScheduler.shutdownNow();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberPromoted(MemberPromotedEvent event) {
+        sync("promote", event.memberId(), () -> tokenGenerations.promote(event.memberId(),
+                RefreshTokenStore.key(event.email()), event.role()), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+        sync("withdraw", event.memberId(), () -> {
+            tokenGenerations.revokeAll(event.memberId());
+            refreshTokenStore.delete(event.email());
+            redisService.deleteValues(event.email());
+        }, 1);
+    }
+
+    /**
+     * 세대 증가와 키 삭제는 반복해도 결과가 같으므로 작업 전체를 다시 실행한다.
+     */
+    private void sync(String action, long memberId, Runnable task, int attempt) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            if (attempt < MAX_ATTEMPTS) {
+                retries.increment();
+                log.warn("Failed to {} sessions of member {} (attempt {}), retrying : {}",
+                        action, memberId, attempt, e.getMessage());
+                retryScheduler.schedule(() -> sync(action, memberId, task, attempt + 1),
+                        RETRY_DELAY.toMillis() * attempt, TimeUnit.MILLISECONDS);
+                return;
+            }
+            failures.increment();
+            log.error("Failed to {} sessions of member {} after {} attempts", action, memberId, attempt, e);
+        }
+    }
+}
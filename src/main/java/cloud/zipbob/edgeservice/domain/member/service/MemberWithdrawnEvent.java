@@ -0,0 +1,4 @@
+package cloud.zipbob.edgeservice.domain.member.service;
+
+public record MemberWithdrawnEvent(Long memberId, String email) {
+}
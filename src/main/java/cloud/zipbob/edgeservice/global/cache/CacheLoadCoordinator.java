@@ -0,0 +1,98 @@
+package cloud.zipbob.edgeservice.global.cache;
+
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import cloud.zipbob.edgeservice.global.redis.RedisUnavailableException;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 적재를 노드 사이에서 조율한다. 짧은 Redis lock으로 원본 조회를 한 노드로 모으고,
+ * 백그라운드 갱신 실행을 맡는다. Redis를 쓸 수 없으면 lock 없이 적재한다.
+ */
+@Slf4j
+@Component
+public class CacheLoadCoordinator {
+    static final String LOCK_PREFIX = "cache-lock:";
+    static final String LOCK_SKIPPED = "";
+    private static final long AWAIT_INTERVAL_MILLIS = 20;
+
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisRoundTrips redisRoundTrips;
+    private final ExecutorService refreshExecutor;
+
+    public CacheLoadCoordinator(RedisRoundTrips redisRoundTrips) {
+        this.redisRoundTrips = redisRoundTrips;
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * @return lock을 잡으면 해제용 토큰, 다른 노드가 잡고 있으면 null, Redis를 쓸 수 없으면 {@link #LOCK_SKIPPED}
+     */
+    public String tryLock(String lockKey, Duration timeout) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisRoundTrips.call(template ->
+                    template.opsForValue().setIfAbsent(LOCK_PREFIX + lockKey, token, timeout));
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RedisUnavailableException e) {
+            log.warn("Loading {} without cache lock : {}", lockKey, e.getMessage());
+            return LOCK_SKIPPED;
+        }
+    }
+
+    public void unlock(String lockKey, String token) {
+        if (LOCK_SKIPPED.equals(token)) {
+            return;
+        }
+        try {
+            redisRoundTrips.script(UNLOCK_SCRIPT, List.of(LOCK_PREFIX + lockKey), token);
+        } catch (RedisUnavailableException e) {
+            log.warn("Failed to release cache lock {} : {}", lockKey, e.getMessage());
+        }
+    }
+
+    public <T> T await(Supplier<T> probe, Duration wait) {
+        long deadline = System.nanoTime() + wait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(AWAIT_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            T value = probe.get();
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    public void refreshAsync(Runnable refresh) {
+        refreshExecutor.execute(refresh);
+    }
+}
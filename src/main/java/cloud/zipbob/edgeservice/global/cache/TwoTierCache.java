@@ -0,0 +1,322 @@
+package cloud.zipbob.edgeservice.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import cloud.zipbob.edgeservice.global.redis.codec.ExpiringValue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+/**
+ * 로컬 Caffeine(L1) 뒤에 Redis 캐시(L2)를 두는 캐시. 쓰기와 삭제는 L2에 먼저 반영한 뒤
+ * 다른 노드에 무효화를 알린다. 알림이 유실되더라도 L1 값은 localTtl 안에 만료된다.
+ * 로더가 주어진 조회(@Cacheable(sync = true))는 노드 안에서 키마다 한 번만 적재하고,
+ * 만료가 가까운 값은 확률적으로(XFetch) 미리 백그라운드에서 다시 적재한다. refreshAhead가 켜진 캐시는
+ * L2에 만료 시각을 값과 함께({@link ExpiringValue}) 저장해 Redis 조회 한 번으로 남은 수명을 알아낸다. 갱신 중인 키는 eviction epoch를
+ * 두어, 적재 도중 put/evict/무효화가 일어나면 갱신 결과를 쓰지 않거나 쓴 값을 되돌린다.
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+    private static final String METRIC_NAME = "cache.tier.requests";
+    private static final long UNKNOWN_EXPIRY = -1;
+
+    private final String name;
+    private final TwoTierCacheProperties.TierProperties tier;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> local;
+    private final Cache redis;
+    private final CacheLoadCoordinator coordinator;
+    private final Consumer<String> invalidationPublisher;
+    private final Map<String, CompletableFuture<LocalEntry>> loading = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> refreshing = new ConcurrentHashMap<>();
+    private final AtomicLong lastLoadMillis = new AtomicLong(1);
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter refreshes;
+
+    public TwoTierCache(String name, TwoTierCacheProperties.TierProperties tier, Cache redis,
+                        CacheLoadCoordinator coordinator, Consumer<String> invalidationPublisher,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.tier = tier;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(tier.getLocalTtl())
+                .maximumSize(tier.getLocalMaximumSize())
+                .build();
+        this.redis = redis;
+        this.coordinator = coordinator;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHits = meterRegistry.counter(METRIC_NAME, "cache", name, "tier", "local", "result", "hit");
+        this.localMisses = meterRegistry.counter(METRIC_NAME, "cache", name, "tier", "local", "result", "miss");
+        this.redisHits = meterRegistry.counter(METRIC_NAME, "cache", name, "tier", "redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter(METRIC_NAME, "cache", name, "tier", "redis", "result", "miss");
+        this.refreshes = meterRegistry.counter("cache.tier.refreshes", "cache", name);
+        Gauge.builder("cache.tier.local.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        LocalEntry cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+        LocalEntry loaded = fromRedis(key);
+        if (loaded != null) {
+            local.put(localKey, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        LocalEntry cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            refreshIfExpiring(key, localKey, cached, valueLoader);
+            return (T) cached.value();
+        }
+        localMisses.increment();
+
+        CompletableFuture<LocalEntry> mine = new CompletableFuture<>();
+        CompletableFuture<LocalEntry> inFlight = loading.putIfAbsent(localKey, mine);
+        if (inFlight != null) {
+            return (T) join(inFlight).value();
+        }
+        try {
+            LocalEntry entry = fromRedis(key);
+            if (entry == null) {
+                entry = loadWithLock(key, localKey, valueLoader);
+            }
+            local.put(localKey, entry);
+            mine.complete(entry);
+            return (T) entry.value();
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(localKey, mine);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        bumpEpoch(localKey);
+        LocalEntry entry = new LocalEntry(value, tier.isRefreshAhead()
+                ? System.currentTimeMillis() + tier.getRedisTtl().toMillis() : UNKNOWN_EXPIRY);
+        writeRedis(key, entry);
+        local.put(localKey, entry);
+        invalidationPublisher.accept(localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        bumpEpoch(localKey);
+        redis.evict(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(localKey);
+    }
+
+    @Override
+    public void clear() {
+        bumpEpoch(null);
+        redis.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(null);
+    }
+
+    void invalidateLocal(String key) {
+        bumpEpoch(key);
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private LocalEntry fromRedis(Object key) {
+        ValueWrapper stored = redis.get(key);
+        if (stored == null) {
+            redisMisses.increment();
+            return null;
+        }
+        redisHits.increment();
+        if (stored.get() instanceof ExpiringValue expiring) {
+            return new LocalEntry(expiring.value(), expiring.expiresAt());
+        }
+        return new LocalEntry(stored.get(), UNKNOWN_EXPIRY);
+    }
+
+    private void writeRedis(Object key, LocalEntry entry) {
+        redis.put(key, entry.expiresAt() == UNKNOWN_EXPIRY
+                ? entry.value() : new ExpiringValue(entry.value(), entry.expiresAt()));
+    }
+
+    private LocalEntry loadWithLock(Object key, String localKey, Callable<?> valueLoader) {
+        if (!tier.isDistributedLock()) {
+            return loadFromSource(key, localKey, valueLoader);
+        }
+        String lockKey = name + ":" + localKey;
+        String token = coordinator.tryLock(lockKey, tier.getLockTimeout());
+        if (token == null) {
+            LocalEntry loadedElsewhere = coordinator.await(() -> fromRedis(key), tier.getLockWait());
+            if (loadedElsewhere != null) {
+                return loadedElsewhere;
+            }
+            return loadFromSource(key, localKey, valueLoader);
+        }
+        try {
+            return loadFromSource(key, localKey, valueLoader);
+        } finally {
+            coordinator.unlock(lockKey, token);
+        }
+    }
+
+    private LocalEntry loadFromSource(Object key, String localKey, Callable<?> valueLoader) {
+        LocalEntry entry = callLoader(key, valueLoader);
+        writeRedis(key, entry);
+        invalidationPublisher.accept(localKey);
+        return entry;
+    }
+
+    private LocalEntry callLoader(Object key, Callable<?> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long loadedAt = System.currentTimeMillis();
+        lastLoadMillis.set(Math.max(1, loadedAt - startedAt));
+        return new LocalEntry(value,
+                tier.isRefreshAhead() ? loadedAt + tier.getRedisTtl().toMillis() : UNKNOWN_EXPIRY);
+    }
+
+    private void bumpEpoch(String localKey) {
+        if (localKey == null) {
+            refreshing.values().forEach(AtomicLong::incrementAndGet);
+            return;
+        }
+        AtomicLong epoch = refreshing.get(localKey);
+        if (epoch != null) {
+            epoch.incrementAndGet();
+        }
+    }
+
+    private void refreshIfExpiring(Object key, String localKey, LocalEntry entry, Callable<?> valueLoader) {
+        if (!tier.isRefreshAhead() || entry.expiresAt() == UNKNOWN_EXPIRY) {
+            return;
+        }
+        double gap = lastLoadMillis.get() * tier.getRefreshBeta()
+                * -Math.log(ThreadLocalRandom.current().nextDouble());
+        AtomicLong epoch = new AtomicLong();
+        if (System.currentTimeMillis() + gap < entry.expiresAt() || refreshing.putIfAbsent(localKey, epoch) != null) {
+            return;
+        }
+        refreshes.increment();
+        coordinator.refreshAsync(() -> {
+            try {
+                String lockKey = name + ":" + localKey;
+                String token = tier.isDistributedLock() ? coordinator.tryLock(lockKey, tier.getLockTimeout())
+                        : CacheLoadCoordinator.LOCK_SKIPPED;
+                if (token == null) {
+                    return;
+                }
+                try {
+                    storeRefreshed(key, localKey, callLoader(key, valueLoader), epoch);
+                } finally {
+                    coordinator.unlock(lockKey, token);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh {} in {} : {}", localKey, name, e.getMessage());
+            } finally {
+                refreshing.remove(localKey, epoch);
+            }
+        });
+    }
+
+    /**
+     * 적재를 시작한 뒤 epoch가 바뀌었다면 그 사이 값이 바뀌었거나 삭제된 것이므로 쓰지 않는다.
+     * 확인과 쓰기 사이에 끼어든 evict는 쓰기 뒤에 다시 확인해 되돌린다. evict가 epoch를 먼저 올리므로
+     * 어느 순서로 겹치더라도 갱신 값이 남지 않는다.
+     */
+    private void storeRefreshed(Object key, String localKey, LocalEntry refreshed, AtomicLong epoch) {
+        if (epoch.get() != 0) {
+            log.debug("Discarded refresh of {} in {} after eviction", localKey, name);
+            return;
+        }
+        writeRedis(key, refreshed);
+        local.put(localKey, refreshed);
+        if (epoch.get() != 0) {
+            redis.evict(key);
+            local.invalidate(localKey);
+            log.debug("Rolled back refresh of {} in {} after eviction", localKey, name);
+            return;
+        }
+        invalidationPublisher.accept(localKey);
+    }
+
+    private static LocalEntry join(CompletableFuture<LocalEntry> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private record LocalEntry(Object value, long expiresAt) implements ValueWrapper {
+
+        @Override
+        public Object get() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package cloud.zipbob.edgeservice.global.cache;
+
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import cloud.zipbob.edgeservice.global.redis.RedisUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * two-tier-cache.caches에 등록된 캐시는 {@link TwoTierCache}로 감싸고, 나머지는 Redis 캐시를 그대로 돌려준다.
+ * 무효화 메시지는 "노드ID|캐시이름|키" 형식이며 키가 비어 있으면 캐시 전체를 비운다.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+    private static final char SEPARATOR = '|';
+
+    private final CacheManager redisCacheManager;
+    private final TwoTierCacheProperties properties;
+    private final RedisRoundTrips redisRoundTrips;
+    private final CacheLoadCoordinator coordinator;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager redisCacheManager, TwoTierCacheProperties properties,
+                               RedisRoundTrips redisRoundTrips, CacheLoadCoordinator coordinator,
+                               MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.redisRoundTrips = redisRoundTrips;
+        this.coordinator = coordinator;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCacheProperties.TierProperties tier = properties.tier(name);
+        if (tier == null) {
+            return redisCacheManager.getCache(name);
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoTierCache(cacheName, tier,
+                redisCacheManager.getCache(cacheName), coordinator, key -> publish(cacheName, key), meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : body.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            log.warn("Ignoring malformed cache invalidation message : {}", body);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, first))) {
+            return;
+        }
+        TwoTierCache cache = caches.get(body.substring(first + 1, second));
+        if (cache != null) {
+            String key = body.substring(second + 1);
+            cache.invalidateLocal(key.isEmpty() ? null : key);
+        }
+    }
+
+    private void publish(String cacheName, String key) {
+        String body = nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : "");
+        try {
+            redisRoundTrips.call(template -> template.convertAndSend(properties.getChannel(), body));
+        } catch (RedisUnavailableException e) {
+            log.warn("Failed to publish cache invalidation for {} : {}", cacheName, e.getMessage());
+        }
+    }
+}
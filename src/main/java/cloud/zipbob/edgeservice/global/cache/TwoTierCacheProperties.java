@@ -0,0 +1,46 @@
+package cloud.zipbob.edgeservice.global.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "two-tier-cache")
+public class TwoTierCacheProperties {
+    public static final String MEMBER_INFO_CACHE = "memberInfoCache";
+
+    private String channel = "cache-invalidations";
+
+    private Map<String, TierProperties> caches = new HashMap<>(Map.of(
+            MEMBER_INFO_CACHE, new TierProperties(Duration.ofSeconds(30), 10_000, Duration.ofHours(1))));
+
+    public TierProperties tier(String cacheName) {
+        return caches.get(cacheName);
+    }
+
+    @Setter
+    @Getter
+    public static class TierProperties {
+        private Duration localTtl;
+        private long localMaximumSize;
+        private Duration redisTtl;
+        private boolean distributedLock = false;
+        private Duration lockTimeout = Duration.ofSeconds(2);
+        private Duration lockWait = Duration.ofMillis(500);
+        private boolean refreshAhead = true;
+        private double refreshBeta = 1.0;
+
+        public TierProperties() {
+        }
+
+        public TierProperties(Duration localTtl, long localMaximumSize, Duration redisTtl) {
+            this.localTtl = localTtl;
+            this.localMaximumSize = localMaximumSize;
+            this.redisTtl = redisTtl;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+/**
+ * {@link RedisClientSideCache}가 추적하는 캐시 키는 로컬 사본에서 읽고, 나머지 동작은 그대로 위임한다.
+ */
+public class ClientSideCachingRedisCacheWriter implements RedisCacheWriter {
+    private final RedisCacheWriter delegate;
+    private final RedisClientSideCache clientSideCache;
+
+    public ClientSideCachingRedisCacheWriter(RedisCacheWriter delegate, RedisClientSideCache clientSideCache) {
+        this.delegate = delegate;
+        this.clientSideCache = clientSideCache;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        String cacheKey = new String(key, StandardCharsets.UTF_8);
+        if (clientSideCache.tracks(cacheKey)) {
+            return clientSideCache.get(cacheKey);
+        }
+        return delegate.get(name, key);
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Duration ttl) {
+        return get(name, key);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return delegate.retrieve(name, key, ttl);
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        delegate.put(name, key, value, ttl);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        return delegate.store(name, key, value, ttl);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        return delegate.putIfAbsent(name, key, value, ttl);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new ClientSideCachingRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector),
+                clientSideCache);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+}
@@ -0,0 +1,162 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 bucket과 Redis bucket을 함께 쓰는 제한기. 노드는 Redis의 전역 quota에서 lease-size 만큼을 미리 가져와
+ * 로컬에서 판정하고, lease가 절반 이하로 줄면 sync-interval마다 여러 키의 lease를 pipeline 한 번으로 채운다.
+ * 가져온 허용량은 이미 전역 bucket에서 차감되어 있으므로 초과 허용은 없고, 노드별로 lease-size 만큼 덜 허용될 수 있다.
+ */
+@Slf4j
+@Component
+public class HybridRateLimiter {
+    private final RedisRateLimiterService redisRateLimiterService;
+    private final RateLimitProperties rateLimitProperties;
+    private final Cache<String, Lease> leases;
+    private final Queue<Lease> pendingRefills = new ConcurrentLinkedQueue<>();
+    private ScheduledExecutorService scheduler;
+
+    public HybridRateLimiter(RedisRateLimiterService redisRateLimiterService,
+                             RateLimitProperties rateLimitProperties) {
+        this.redisRateLimiterService = redisRateLimiterService;
+        this.rateLimitProperties = rateLimitProperties;
+        RateLimitProperties.HybridProperties hybrid = rateLimitProperties.getHybrid();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(hybrid.getMaximumKeys())
+                .expireAfterAccess(hybrid.getLeaseTtl().multipliedBy(2))
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        long syncMillis = Math.max(1, rateLimitProperties.getHybrid().getSyncInterval().toMillis());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refillPending, syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    public RateLimitDecision tryAcquire(RateLimitClass bucket, String key) {
+        RateLimitProperties.HybridProperties hybrid = rateLimitProperties.getHybrid();
+        if (!hybrid.isEnabled()) {
+            return redisRateLimiterService.tryAcquire(bucket, key);
+        }
+        String leaseKey = bucket.name() + ":" + key;
+        Lease lease = leases.get(leaseKey, ignored -> new Lease(bucket, key));
+        if (!lease.bucket.equals(bucket)) {
+            lease = new Lease(bucket, key);
+            leases.put(leaseKey, lease);
+        }
+        long now = System.currentTimeMillis();
+        long left = lease.take(now);
+        if (left >= 0) {
+            if (left <= hybrid.getLeaseSize() / 2) {
+                requestRefill(lease);
+            }
+            return lease.decision(left);
+        }
+
+        RateLimitGrant grant = redisRateLimiterService.acquire(bucket, key, hybrid.getLeaseSize());
+        if (grant.granted() == 0) {
+            return grant.toDecision();
+        }
+        lease.refill(grant, grant.granted() - 1, now + hybrid.getLeaseTtl().toMillis());
+        return lease.decision(grant.granted() - 1);
+    }
+
+    void refillPending() {
+        List<Lease> batch = new ArrayList<>();
+        for (Lease lease = pendingRefills.poll(); lease != null; lease = pendingRefills.poll()) {
+            batch.add(lease);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        RateLimitProperties.HybridProperties hybrid = rateLimitProperties.getHybrid();
+        try {
+            List<RateLimitGrant> grants = redisRateLimiterService.acquireAll(batch.stream()
+                    .map(lease -> new RedisRateLimiterService.LeaseRequest(lease.bucket, lease.key,
+                            hybrid.getLeaseSize()))
+                    .toList());
+            long expiresAt = System.currentTimeMillis() + hybrid.getLeaseTtl().toMillis();
+            for (int i = 0; i < batch.size(); i++) {
+                RateLimitGrant grant = grants.get(i);
+                batch.get(i).refill(grant, grant.granted(), expiresAt);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to refill {} rate limit leases", batch.size(), e);
+        } finally {
+            batch.forEach(lease -> lease.refilling.set(false));
+        }
+    }
+
+    private void requestRefill(Lease lease) {
+        if (lease.refilling.compareAndSet(false, true)) {
+            pendingRefills.add(lease);
+        }
+    }
+
+    private static final class Lease {
+        private final RateLimitClass bucket;
+        private final String key;
+        private final AtomicLong permits = new AtomicLong();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private volatile long expiresAt;
+        private volatile RateLimitGrant lastGrant;
+
+        private Lease(RateLimitClass bucket, String key) {
+            this.bucket = bucket;
+            this.key = key;
+        }
+
+        private long take(long now) {
+            if (now >= expiresAt) {
+                return -1;
+            }
+            long current;
+            do {
+                current = permits.get();
+                if (current <= 0) {
+                    return -1;
+                }
+            } while (!permits.compareAndSet(current, current - 1));
+            return current - 1;
+        }
+
+        private void refill(RateLimitGrant grant, long granted, long leaseExpiresAt) {
+            if (System.currentTimeMillis() >= expiresAt) {
+                permits.set(granted);
+            } else {
+                permits.addAndGet(granted);
+            }
+            lastGrant = grant;
+            expiresAt = leaseExpiresAt;
+        }
+
+        private RateLimitDecision decision(long left) {
+            RateLimitGrant grant = lastGrant;
+            return new RateLimitDecision(true, grant.limit(), left + grant.remaining(), grant.resetSeconds(), 0);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import java.time.Duration;
+
+/**
+ * 정책 표를 만들 때 확정한 제한 등급. 설정 객체가 갱신되어도 이미 만든 표의 등급은 바뀌지 않는다.
+ */
+public record RateLimitClass(String name, long capacity, long refillTokens, Duration refillPeriod) {
+
+    static RateLimitClass of(String name, RateLimitProperties.BucketProperties bucket) {
+        return new RateLimitClass(name, bucket.getCapacity(), bucket.getRefillTokens(), bucket.getRefillPeriod());
+    }
+}
@@ -0,0 +1,5 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetSeconds,
+                                long retryAfterSeconds) {
+}
@@ -0,0 +1,8 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+public record RateLimitGrant(long granted, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+
+    public RateLimitDecision toDecision() {
+        return new RateLimitDecision(granted > 0, limit, remaining, resetSeconds, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,114 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 경로 패턴과 역할별 제한 등급(key class) 표. 설정의 순서대로 처음 일치하는 정책을 쓰고,
+ * 설정이 갱신되면 새 표를 만든 뒤 통째로 교체한다. 표는 등급의 bucket 설정까지 복사해 두므로,
+ * 잘못된 설정으로 갱신되어 교체를 거부하더라도 이전 표는 그대로 동작한다.
+ */
+@Slf4j
+@Component
+public class RateLimitPolicyTable {
+    public static final String ANONYMOUS_ROLE = "ANONYMOUS";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final RateLimitProperties rateLimitProperties;
+    private volatile Snapshot snapshot;
+
+    public RateLimitPolicyTable(RateLimitProperties rateLimitProperties) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.snapshot = compile(rateLimitProperties);
+    }
+
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void reload() {
+        try {
+            Snapshot reloaded = compile(rateLimitProperties);
+            this.snapshot = reloaded;
+            log.info("Reloaded rate limit policies : {}", reloaded.policies().size());
+        } catch (RuntimeException e) {
+            log.error("Invalid rate limit policies, keeping the previous table", e);
+        }
+    }
+
+    /**
+     * @param defaultKeyClass 일치하는 정책이 없을 때 쓸 등급. {@link RateLimitProperties#MEMBER} 또는
+     *                        {@link RateLimitProperties#ANONYMOUS}
+     */
+    public RateLimitClass resolve(String path, String role, String defaultKeyClass) {
+        Snapshot current = snapshot;
+        if (!current.policies().isEmpty()) {
+            PathContainer pathContainer = PathContainer.parsePath(path);
+            for (CompiledPolicy policy : current.policies()) {
+                if (policy.matches(pathContainer, role)) {
+                    return policy.limitClass();
+                }
+            }
+        }
+        RateLimitClass defaultClass = current.classes().get(defaultKeyClass);
+        if (defaultClass == null) {
+            throw new IllegalArgumentException("Unknown rate limit key class : " + defaultKeyClass);
+        }
+        return defaultClass;
+    }
+
+    private static Snapshot compile(RateLimitProperties rateLimitProperties) {
+        Map<String, RateLimitClass> classes = new LinkedHashMap<>();
+        rateLimitProperties.getClasses().forEach((name, bucket) -> classes.put(name, compileClass(name, bucket)));
+        requireClass(classes, RateLimitProperties.MEMBER);
+        requireClass(classes, RateLimitProperties.ANONYMOUS);
+        List<CompiledPolicy> policies = rateLimitProperties.getPolicies().stream()
+                .map(policy -> new CompiledPolicy(PathPatternParser.defaultInstance.parse(policy.getPattern()),
+                        policy.getRoles().stream()
+                                .map(RateLimitPolicyTable::normalizeRole)
+                                .collect(Collectors.toUnmodifiableSet()),
+                        requireClass(classes, policy.getKeyClass())))
+                .toList();
+        return new Snapshot(policies, Map.copyOf(classes));
+    }
+
+    private static RateLimitClass compileClass(String name, RateLimitProperties.BucketProperties bucket) {
+        if (bucket == null || bucket.getCapacity() <= 0 || bucket.getRefillTokens() <= 0
+                || bucket.getRefillPeriod() == null || bucket.getRefillPeriod().toMillis() <= 0) {
+            throw new IllegalArgumentException("Invalid rate limit key class : " + name);
+        }
+        return RateLimitClass.of(name, bucket);
+    }
+
+    private static RateLimitClass requireClass(Map<String, RateLimitClass> classes, String keyClass) {
+        RateLimitClass limitClass = classes.get(keyClass);
+        if (limitClass == null) {
+            throw new IllegalArgumentException("Unknown rate limit key class : " + keyClass);
+        }
+        return limitClass;
+    }
+
+    private static String normalizeRole(String role) {
+        if (ANONYMOUS_ROLE.equalsIgnoreCase(role) || role.startsWith(ROLE_PREFIX)) {
+            return role.toUpperCase();
+        }
+        return ROLE_PREFIX + role.toUpperCase();
+    }
+
+    private record Snapshot(List<CompiledPolicy> policies, Map<String, RateLimitClass> classes) {
+    }
+
+    private record CompiledPolicy(PathPattern pattern, Set<String> roles, RateLimitClass limitClass) {
+
+        private boolean matches(PathContainer path, String role) {
+            return (roles.isEmpty() || roles.contains(role)) && pattern.matches(path);
+        }
+    }
+}
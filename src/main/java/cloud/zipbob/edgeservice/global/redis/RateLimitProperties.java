@@ -0,0 +1,85 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Setter
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    public static final String MEMBER = "member";
+    public static final String ANONYMOUS = "anonymous";
+
+    private Map<String, @Valid BucketProperties> classes = new LinkedHashMap<>(Map.of(
+            MEMBER, new BucketProperties(100, 100, Duration.ofSeconds(1)),
+            ANONYMOUS, new BucketProperties(50, 50, Duration.ofSeconds(1))));
+
+    private List<PolicyProperties> policies = new ArrayList<>();
+
+    private List<String> trustedProxies = new ArrayList<>();
+
+    private HybridProperties hybrid = new HybridProperties();
+
+    @Setter
+    @Getter
+    public static class BucketProperties {
+
+        @Positive
+        private long capacity;
+
+        @Positive
+        private long refillTokens;
+
+        @NotNull
+        @DurationMin(millis = 1)
+        private Duration refillPeriod;
+
+        public BucketProperties() {
+            this(100, 100, Duration.ofSeconds(1));
+        }
+
+        public BucketProperties(long capacity, long refillTokens, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillTokens = refillTokens;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+
+    @Setter
+    @Getter
+    public static class PolicyProperties {
+
+        private String pattern;
+
+        private List<String> roles = new ArrayList<>();
+
+        private String keyClass;
+    }
+
+    @Setter
+    @Getter
+    public static class HybridProperties {
+
+        private boolean enabled = false;
+
+        private long leaseSize = 10;
+
+        private Duration leaseTtl = Duration.ofSeconds(1);
+
+        private Duration syncInterval = Duration.ofMillis(5);
+
+        private long maximumKeys = 100_000;
+    }
+}
@@ -0,0 +1,18 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "redis-client-cache")
+public class RedisClientCacheProperties {
+    private boolean enabled = false;
+
+    private List<String> prefixes = new ArrayList<>(List.of("refresh:", "memberInfoCache::"));
+
+    private long maximumSize = 10_000;
+}
@@ -0,0 +1,207 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateAdapter;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 자주 읽히는 키(prefixes)의 로컬 사본. RESP3 연결에서 CLIENT TRACKING BCAST를 켜 두고,
+ * 서버가 보내는 invalidate 메시지로 사본을 지운다. 연결이 끊기면 사본을 비우고 다음 읽기에서 tracking을 다시 켠다.
+ * 읽는 도중 들어온 무효화는 자리표시자(LOADING)를 지우므로 오래된 값이 사본에 남지 않는다.
+ * 연결 설정(url, 계정, ssl, timeout)은 기본 Redis 연결과 같은 {@code spring.data.redis}를 따르고,
+ * 사본에 없는 키를 읽을 때는 {@link RedisRoundTrips}의 circuit breaker를 거친다.
+ */
+@Slf4j
+@Component
+public class RedisClientSideCache {
+    private static final String METRIC_NAME = "redis.client_cache";
+    private static final String INVALIDATE = "invalidate";
+    private static final Object LOADING = new Object();
+    private static final Object ABSENT = new Object();
+
+    private final RedisClientCacheProperties properties;
+    private final RedisProperties redisProperties;
+    private final RedisResilienceProperties redisResilienceProperties;
+    private final RedisRoundTrips redisRoundTrips;
+    private final Cache<String, Object> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private RedisClient client;
+    private StatefulRedisConnection<String, byte[]> connection;
+    private volatile boolean tracking;
+
+    public RedisClientSideCache(RedisClientCacheProperties properties, RedisProperties redisProperties,
+                                RedisResilienceProperties redisResilienceProperties, RedisRoundTrips redisRoundTrips,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisProperties = redisProperties;
+        this.redisResilienceProperties = redisResilienceProperties;
+        this.redisRoundTrips = redisRoundTrips;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .build();
+        this.hits = meterRegistry.counter(METRIC_NAME + ".requests", "result", "hit");
+        this.misses = meterRegistry.counter(METRIC_NAME + ".requests", "result", "miss");
+        Gauge.builder(METRIC_NAME + ".size", entries, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        client = RedisClient.create(redisUri());
+        ClientOptions.Builder options = ClientOptions.builder()
+                .protocolVersion(ProtocolVersion.RESP3)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS);
+        if (redisProperties.getConnectTimeout() != null) {
+            options.socketOptions(SocketOptions.builder()
+                    .connectTimeout(redisProperties.getConnectTimeout())
+                    .build());
+        }
+        client.setOptions(options.build());
+        client.addListener(new RedisConnectionStateAdapter() {
+            @Override
+            public void onRedisDisconnected(RedisChannelHandler<?, ?> disconnected) {
+                tracking = false;
+                entries.invalidateAll();
+            }
+        });
+        connect(client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE)));
+    }
+
+    RedisURI redisUri() {
+        RedisURI uri;
+        if (StringUtils.hasText(redisProperties.getUrl())) {
+            uri = RedisURI.create(redisProperties.getUrl());
+        } else {
+            RedisURI.Builder builder = RedisURI.builder()
+                    .withHost(redisProperties.getHost())
+                    .withPort(redisProperties.getPort())
+                    .withDatabase(redisProperties.getDatabase())
+                    .withSsl(redisProperties.getSsl().isEnabled());
+            if (StringUtils.hasText(redisProperties.getPassword())) {
+                if (StringUtils.hasText(redisProperties.getUsername())) {
+                    builder.withAuthentication(redisProperties.getUsername(), redisProperties.getPassword());
+                } else {
+                    builder.withPassword(redisProperties.getPassword().toCharArray());
+                }
+            }
+            uri = builder.build();
+        }
+        Duration timeout = redisProperties.getTimeout();
+        uri.setTimeout(timeout != null ? timeout : redisResilienceProperties.getCommandTimeout());
+        return uri;
+    }
+
+    void connect(StatefulRedisConnection<String, byte[]> trackingConnection) {
+        trackingConnection.addListener(this::onPushMessage);
+        this.connection = trackingConnection;
+        enableTracking();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (connection != null) {
+            connection.close();
+        }
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    public boolean tracks(String key) {
+        return connection != null && properties.getPrefixes().stream().anyMatch(key::startsWith);
+    }
+
+    public byte[] get(String key) {
+        return (byte[]) read(key, commands -> commands.get(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, byte[]> hgetall(String key) {
+        return (Map<String, byte[]>) read(key, commands -> commands.hgetall(key));
+    }
+
+    void onPushMessage(PushMessage message) {
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof Collection<?> invalidated) {
+            invalidated.forEach(key -> entries.invalidate(String.valueOf(key)));
+        } else {
+            entries.invalidateAll();
+        }
+    }
+
+    private Object read(String key, Function<RedisCommands<String, byte[]>, Object> command) {
+        if (!tracking) {
+            enableTracking();
+        }
+        Object cached = entries.getIfPresent(key);
+        if (cached != null && cached != LOADING) {
+            hits.increment();
+            return cached == ABSENT ? null : cached;
+        }
+        misses.increment();
+        boolean cacheable = tracking && entries.asMap().putIfAbsent(key, LOADING) == null;
+        try {
+            Object value = redisRoundTrips.direct(() -> command.apply(connection.sync()));
+            if (cacheable) {
+                entries.asMap().replace(key, LOADING, value != null ? value : ABSENT);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            if (cacheable) {
+                entries.asMap().remove(key, LOADING);
+            }
+            throw e;
+        }
+    }
+
+    private synchronized void enableTracking() {
+        if (tracking) {
+            return;
+        }
+        try {
+            connection.sync().clientTracking(TrackingArgs.Builder.enabled()
+                    .bcast()
+                    .prefixes(properties.getPrefixes().toArray(String[]::new)));
+            entries.invalidateAll();
+            tracking = true;
+            log.info("Enabled redis client tracking for prefixes : {}", properties.getPrefixes());
+        } catch (RedisException e) {
+            log.warn("Failed to enable redis client tracking : {}", e.getMessage());
+        }
+    }
+}
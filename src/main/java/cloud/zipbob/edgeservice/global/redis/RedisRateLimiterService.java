@@ -1,24 +1,138 @@
 package cloud.zipbob.edgeservice.global.redis;
 
-import lombok.AllArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
+/**
+ * 키 분류(회원, 비회원)별 token bucket 제한. 판정은 Redis script 한 번으로 원자적으로 이뤄지고,
+ * bucket 키는 가득 찰 때까지 남은 시간만큼만 유지된다.
+ */
+@Slf4j
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class RedisRateLimiterService {
+    static final String RATE_LIMIT_KEY_PREFIX = "rate_limit:";
 
-    private StringRedisTemplate redisTemplate;
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refill_tokens = tonumber(ARGV[2])
+            local refill_millis = tonumber(ARGV[3])
+            local requested = tonumber(ARGV[4])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local updated_at = tonumber(bucket[2])
+            if tokens == nil or updated_at == nil then
+                tokens = capacity
+                updated_at = now
+            end
+            local millis_per_token = refill_millis / refill_tokens
+            tokens = math.min(capacity, tokens + math.max(0, now - updated_at) / millis_per_token)
+            local granted = math.min(requested, math.floor(tokens))
+            local retry_after = 0
+            if granted > 0 then
+                tokens = tokens - granted
+            else
+                retry_after = math.ceil((1 - tokens) * millis_per_token)
+            end
+            local reset = math.ceil((capacity - tokens) * millis_per_token)
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.max(reset, 1))
+            return {granted, math.floor(tokens), reset, retry_after}
+            """, List.class);
 
-    private final int MAX_REQUESTS_PER_SECOND = 100;
-    private final String RATE_LIMIT_KEY_PREFIX = "rate_limit:";
+    private final RedisRoundTrips redisRoundTrips;
+    private final RedisResilienceProperties redisResilienceProperties;
 
-    public boolean isRequestAllowed(String key) {
-        String redisKey = RATE_LIMIT_KEY_PREFIX + key;
-        Long currentCount = redisTemplate.opsForValue().increment(redisKey, 1);
-        if (currentCount == null) {
-            currentCount = 1L;
+    public RateLimitDecision tryAcquire(RateLimitClass bucket, String key) {
+        return acquire(bucket, key, 1).toDecision();
+    }
+
+    public RateLimitGrant acquire(RateLimitClass bucket, String key, long permits) {
+        try {
+            List<?> result = redisRoundTrips.script(TOKEN_BUCKET_SCRIPT, List.of(redisKey(bucket, key)),
+                    (Object[]) scriptArgs(bucket, permits));
+            return toGrant(bucket, permits, result);
+        } catch (RedisUnavailableException e) {
+            log.debug("Rate limit decided without redis : {}", e.getMessage());
+            return degradedGrant(bucket, permits);
         }
-        return currentCount <= MAX_REQUESTS_PER_SECOND;
+    }
+
+    public List<RateLimitGrant> acquireAll(List<LeaseRequest> requests) {
+        List<Object> results;
+        try {
+            results = pipelineAll(requests);
+        } catch (RedisUnavailableException e) {
+            log.debug("Rate limit leases decided without redis : {}", e.getMessage());
+            return requests.stream()
+                    .map(request -> degradedGrant(request.bucket(), request.permits()))
+                    .toList();
+        }
+        List<RateLimitGrant> grants = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            LeaseRequest request = requests.get(i);
+            Object result = results != null && i < results.size() ? results.get(i) : null;
+            grants.add(toGrant(request.bucket(), request.permits(),
+                    result instanceof List<?> values ? values : null));
+        }
+        return grants;
+    }
+
+    private List<Object> pipelineAll(List<LeaseRequest> requests) {
+        List<String[]> calls = new ArrayList<>(requests.size());
+        for (LeaseRequest request : requests) {
+            String[] args = scriptArgs(request.bucket(), request.permits());
+            String[] keysAndArgs = new String[args.length + 1];
+            keysAndArgs[0] = redisKey(request.bucket(), request.key());
+            System.arraycopy(args, 0, keysAndArgs, 1, args.length);
+            calls.add(keysAndArgs);
+        }
+        return redisRoundTrips.pipelineScript(TOKEN_BUCKET_SCRIPT, 1, calls);
+    }
+
+    private RateLimitGrant degradedGrant(RateLimitClass bucket, long permits) {
+        if (redisResilienceProperties.failOpen(RedisResilienceProperties.RATE_LIMIT)) {
+            return new RateLimitGrant(permits, bucket.capacity(), bucket.capacity(), 0, 0);
+        }
+        return new RateLimitGrant(0, bucket.capacity(), 0, 1, 1);
+    }
+
+    private static String redisKey(RateLimitClass bucket, String key) {
+        return RATE_LIMIT_KEY_PREFIX + bucket.name() + ":" + key;
+    }
+
+    private static String[] scriptArgs(RateLimitClass bucket, long permits) {
+        return new String[]{String.valueOf(bucket.capacity()), String.valueOf(bucket.refillTokens()),
+                String.valueOf(bucket.refillPeriod().toMillis()), String.valueOf(permits)};
+    }
+
+    private static RateLimitGrant toGrant(RateLimitClass bucket, long permits, List<?> result) {
+        if (result == null || result.size() < 4) {
+            return new RateLimitGrant(permits, bucket.capacity(), bucket.capacity(), 0, 0);
+        }
+        return new RateLimitGrant(
+                toLong(result.get(0)),
+                bucket.capacity(),
+                toLong(result.get(1)),
+                toSeconds(toLong(result.get(2))),
+                toSeconds(toLong(result.get(3))));
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+
+    public record LeaseRequest(RateLimitClass bucket, String key, long permits) {
     }
 }
@@ -0,0 +1,34 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "redis-resilience")
+public class RedisResilienceProperties {
+    public static final String RATE_LIMIT = "rate-limit";
+    public static final String TOKEN_GENERATION = "token-generation";
+
+    private Duration commandTimeout = Duration.ofMillis(200);
+
+    private int failureThreshold = 5;
+
+    private Duration openDuration = Duration.ofSeconds(5);
+
+    private Map<String, FailureMode> operations = new LinkedHashMap<>(Map.of(
+            RATE_LIMIT, FailureMode.FAIL_OPEN,
+            TOKEN_GENERATION, FailureMode.FAIL_OPEN));
+
+    public boolean failOpen(String operation) {
+        return operations.getOrDefault(operation, FailureMode.FAIL_CLOSED) == FailureMode.FAIL_OPEN;
+    }
+
+    public enum FailureMode {
+        FAIL_OPEN, FAIL_CLOSED
+    }
+}
@@ -0,0 +1,25 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@RequiredArgsConstructor
+public class RedisRoundTripFilter extends OncePerRequestFilter {
+    private final RedisRoundTrips redisRoundTrips;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        redisRoundTrips.beginRequest();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            redisRoundTrips.endRequest();
+        }
+    }
+}
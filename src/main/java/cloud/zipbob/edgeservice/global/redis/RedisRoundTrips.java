@@ -0,0 +1,179 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceExceptionConverter;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 경로의 Redis 접근을 모으는 facade. 여러 명령은 pipeline이나 script 하나로 묶어 보내고,
+ * 요청마다 실제로 발생한 Redis 왕복 횟수를 redis.round_trips 지표로 남긴다.
+ * Redis가 느리거나 내려가면 circuit breaker가 호출을 막고 {@link RedisUnavailableException}을 던진다.
+ */
+@Component
+public class RedisRoundTrips {
+    private static final String METRIC_NAME = "redis.round_trips";
+    private static final String CALLS_METRIC_NAME = "redis.calls";
+    private static final LettuceExceptionConverter LETTUCE_EXCEPTIONS = new LettuceExceptionConverter();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final DistributionSummary perRequest;
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Counter timedOut;
+    private final Counter rejected;
+    private final ThreadLocal<int[]> requestRoundTrips = new ThreadLocal<>();
+
+    public RedisRoundTrips(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+                           RedisResilienceProperties redisResilienceProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.circuitBreaker = new RedisCircuitBreaker(redisResilienceProperties.getFailureThreshold(),
+                redisResilienceProperties.getOpenDuration().toMillis(), System::currentTimeMillis);
+        this.perRequest = DistributionSummary.builder(METRIC_NAME)
+                .description("Redis round trips per request")
+                .register(meterRegistry);
+        this.succeeded = meterRegistry.counter(CALLS_METRIC_NAME, "result", "success");
+        this.failed = meterRegistry.counter(CALLS_METRIC_NAME, "result", "failure");
+        this.timedOut = meterRegistry.counter(CALLS_METRIC_NAME, "result", "timeout");
+        this.rejected = meterRegistry.counter(CALLS_METRIC_NAME, "result", "rejected");
+        Gauge.builder("redis.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("0 closed, 1 open, 2 half open")
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Function<StringRedisTemplate, T> command) {
+        return guarded(() -> command.apply(stringRedisTemplate));
+    }
+
+    public List<Object> pipeline(Consumer<StringRedisConnection> commands) {
+        return guarded(() -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        }));
+    }
+
+    public <T> T script(RedisScript<T> script, List<String> keys, Object... args) {
+        return guarded(() -> stringRedisTemplate.execute(script, keys, args));
+    }
+
+    /**
+     * 템플릿을 거치지 않고 Lettuce 연결을 직접 쓰는 호출(client-side caching 연결)에도
+     * 같은 circuit breaker와 지표를 적용한다. Lettuce 예외는 Spring 예외로 바꿔 판정한다.
+     */
+    public <T> T direct(Supplier<T> command) {
+        return guarded(() -> {
+            try {
+                return command.get();
+            } catch (RuntimeException e) {
+                DataAccessException translated = LETTUCE_EXCEPTIONS.convert(e);
+                throw translated != null ? translated : e;
+            }
+        });
+    }
+
+    /**
+     * 같은 script를 여러 키에 pipeline 하나로 실행한다. 본문 대신 EVALSHA로 SHA만 보내고,
+     * Redis에 script가 없으면(재시작, SCRIPT FLUSH) EVAL로 다시 보내 script를 등록한다.
+     *
+     * @param keysAndArgs 호출마다 앞의 {@code numKeys}개는 키, 나머지는 인자
+     */
+    public List<Object> pipelineScript(RedisScript<?> script, int numKeys, List<String[]> keysAndArgs) {
+        ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+        try {
+            return pipeline(connection -> keysAndArgs.forEach(call ->
+                    connection.evalSha(script.getSha1(), returnType, numKeys, call)));
+        } catch (DataAccessException e) {
+            if (!isNoScriptError(e)) {
+                throw e;
+            }
+            return pipeline(connection -> keysAndArgs.forEach(call ->
+                    connection.eval(script.getScriptAsString(), returnType, numKeys, call)));
+        }
+    }
+
+    public void beginRequest() {
+        requestRoundTrips.set(new int[1]);
+    }
+
+    public void endRequest() {
+        int[] roundTrips = requestRoundTrips.get();
+        requestRoundTrips.remove();
+        if (roundTrips != null) {
+            perRequest.record(roundTrips[0]);
+        }
+    }
+
+    int currentRequestRoundTrips() {
+        int[] roundTrips = requestRoundTrips.get();
+        return roundTrips != null ? roundTrips[0] : 0;
+    }
+
+    RedisCircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private <T> T guarded(Supplier<T> action) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            rejected.increment();
+            throw new RedisUnavailableException("Redis circuit is open");
+        }
+        record();
+        try {
+            T result = action.get();
+            circuitBreaker.onSuccess();
+            succeeded.increment();
+            return result;
+        } catch (QueryTimeoutException e) {
+            timedOut.increment();
+            circuitBreaker.onFailure();
+            throw new RedisUnavailableException("Redis command timed out", e);
+        } catch (DataAccessException e) {
+            if (isNoScriptError(e)) {
+                circuitBreaker.onSuccess();
+                throw e;
+            }
+            failed.increment();
+            circuitBreaker.onFailure();
+            throw new RedisUnavailableException("Redis command failed", e);
+        } catch (RuntimeException e) {
+            circuitBreaker.onSuccess();
+            throw e;
+        }
+    }
+
+    static boolean isNoScriptError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RedisPipelineException pipelineException
+                    && pipelineException.getFailedCommands().stream()
+                    .anyMatch(failed -> failed != pipelineException && isNoScriptError(failed))) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void record() {
+        int[] roundTrips = requestRoundTrips.get();
+        if (roundTrips != null) {
+            roundTrips[0]++;
+        }
+    }
+}
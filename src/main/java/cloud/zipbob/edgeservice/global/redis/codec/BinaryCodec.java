@@ -0,0 +1,30 @@
+package cloud.zipbob.edgeservice.global.redis.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Redis에 캐시하는 DTO의 바이너리 형식. typeId는 저장된 값에 함께 기록되므로 한 번 정하면 바꾸지 않는다.
+ */
+public interface BinaryCodec<T> {
+
+    Class<T> type();
+
+    byte typeId();
+
+    void write(DataOutput out, T value) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+    static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,149 @@
+package cloud.zipbob.edgeservice.global.redis.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 문자열은 UTF-8 그대로, 등록된 DTO는 [0x01][typeId][payload] 바이너리로 저장한다.
+ * 읽을 때는 첫 바이트로 형식을 구분하므로 이전의 JSON, JDK 직렬화 값도 그대로 읽힌다.
+ * JSON이나 태그와 헷갈릴 수 있는 문자로 시작하는 문자열만 0x02 태그를 붙인다.
+ * {@link ExpiringValue}는 쓰기 형식과 관계없이 [0x03][expiresAt 8바이트][값] 으로 감싼다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+    static final byte BINARY_TAG = 0x01;
+    static final byte STRING_TAG = 0x02;
+    static final byte EXPIRING_TAG = 0x03;
+    private static final int EXPIRING_HEADER_LENGTH = 1 + Long.BYTES;
+    private static final byte JDK_STREAM_MAGIC_HIGH = (byte) 0xAC;
+    private static final byte JDK_STREAM_MAGIC_LOW = (byte) 0xED;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Map<Class<?>, BinaryCodec<?>> codecsByType = new HashMap<>();
+    private final BinaryCodec<?>[] codecsById = new BinaryCodec<?>[256];
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+    private final boolean writeCompact;
+
+    public CompactRedisSerializer(List<BinaryCodec<?>> codecs, RedisCodecProperties.WriteFormat writeFormat) {
+        for (BinaryCodec<?> codec : codecs) {
+            int id = Byte.toUnsignedInt(codec.typeId());
+            if (codecsById[id] != null) {
+                throw new IllegalStateException("Duplicate binary codec type id : " + id);
+            }
+            codecsById[id] = codec;
+            codecsByType.put(codec.type(), codec);
+        }
+        this.writeCompact = writeFormat == RedisCodecProperties.WriteFormat.COMPACT;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        if (value instanceof ExpiringValue expiring) {
+            return serializeExpiring(expiring);
+        }
+        if (!writeCompact) {
+            return json.serialize(value);
+        }
+        if (value instanceof String text) {
+            return serializeString(text);
+        }
+        BinaryCodec<?> codec = codecsByType.get(value.getClass());
+        if (codec == null) {
+            return json.serialize(value);
+        }
+        return serializeBinary(codec, value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return switch (bytes[0]) {
+            case BINARY_TAG -> deserializeBinary(bytes);
+            case STRING_TAG -> new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+            case EXPIRING_TAG -> deserializeExpiring(bytes);
+            case '"', '{', '[' -> json.deserialize(bytes);
+            case JDK_STREAM_MAGIC_HIGH -> bytes.length > 1 && bytes[1] == JDK_STREAM_MAGIC_LOW
+                    ? jdk.deserialize(bytes)
+                    : new String(bytes, StandardCharsets.UTF_8);
+            default -> new String(bytes, StandardCharsets.UTF_8);
+        };
+    }
+
+    private static byte[] serializeString(String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length == 0 || !isAmbiguous(utf8[0])) {
+            return utf8;
+        }
+        byte[] tagged = new byte[utf8.length + 1];
+        tagged[0] = STRING_TAG;
+        System.arraycopy(utf8, 0, tagged, 1, utf8.length);
+        return tagged;
+    }
+
+    private static boolean isAmbiguous(byte first) {
+        return first == BINARY_TAG || first == STRING_TAG || first == EXPIRING_TAG
+                || first == '"' || first == '{' || first == '[';
+    }
+
+    private byte[] serializeExpiring(ExpiringValue expiring) {
+        byte[] inner = serialize(expiring.value());
+        ByteBuffer buffer = ByteBuffer.allocate(EXPIRING_HEADER_LENGTH + inner.length);
+        buffer.put(EXPIRING_TAG).putLong(expiring.expiresAt()).put(inner);
+        return buffer.array();
+    }
+
+    private ExpiringValue deserializeExpiring(byte[] bytes) {
+        if (bytes.length < EXPIRING_HEADER_LENGTH) {
+            throw new SerializationException("Truncated expiring value");
+        }
+        long expiresAt = ByteBuffer.wrap(bytes, 1, Long.BYTES).getLong();
+        byte[] inner = Arrays.copyOfRange(bytes, EXPIRING_HEADER_LENGTH, bytes.length);
+        return new ExpiringValue(deserialize(inner), expiresAt);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> byte[] serializeBinary(BinaryCodec<T> codec, Object value) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(BINARY_TAG);
+            out.writeByte(codec.typeId());
+            codec.write(out, (T) value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write " + codec.type().getSimpleName(), e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private Object deserializeBinary(byte[] bytes) {
+        if (bytes.length < 2) {
+            throw new SerializationException("Truncated binary value");
+        }
+        BinaryCodec<?> codec = codecsById[Byte.toUnsignedInt(bytes[1])];
+        if (codec == null) {
+            throw new SerializationException("Unknown binary codec type id : " + Byte.toUnsignedInt(bytes[1]));
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 2, bytes.length - 2))) {
+            return codec.read(in);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read " + codec.type().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package cloud.zipbob.edgeservice.global.redis.codec;
+
+/**
+ * 만료 시각(epoch millis)을 함께 저장하는 값. 읽는 쪽이 PTTL을 따로 묻지 않고 GET 한 번으로 남은 수명을 안다.
+ */
+public record ExpiringValue(Object value, long expiresAt) {
+}
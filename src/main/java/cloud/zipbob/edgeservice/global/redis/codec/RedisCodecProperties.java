@@ -0,0 +1,16 @@
+package cloud.zipbob.edgeservice.global.redis.codec;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "redis-codec")
+public class RedisCodecProperties {
+    private WriteFormat writeFormat = WriteFormat.COMPACT;
+
+    public enum WriteFormat {
+        COMPACT, JSON
+    }
+}
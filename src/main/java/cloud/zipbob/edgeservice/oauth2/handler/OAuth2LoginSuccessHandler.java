@@ -1,15 +1,16 @@
 package cloud.zipbob.edgeservice.oauth2.handler;
 
 import cloud.zipbob.edgeservice.auth.PrincipalDetails;
+import cloud.zipbob.edgeservice.auth.RefreshTokenStore;
+import cloud.zipbob.edgeservice.auth.RefreshTokenStore.RefreshTokenRecord;
 import cloud.zipbob.edgeservice.auth.dto.TokenDto;
 import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProperties;
 import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProvider;
-import cloud.zipbob.edgeservice.domain.member.Member;
+import cloud.zipbob.edgeservice.auth.jwt.TokenGenerations;
 import cloud.zipbob.edgeservice.domain.member.Role;
 import cloud.zipbob.edgeservice.domain.member.exception.MemberException;
 import cloud.zipbob.edgeservice.domain.member.exception.MemberExceptionType;
 import cloud.zipbob.edgeservice.domain.member.repository.MemberRepository;
-import cloud.zipbob.edgeservice.global.redis.RedisService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -31,7 +32,8 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtTokenProperties jwtTokenProperties;
     private final MemberRepository memberRepository;
-    private final RedisService redisService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenGenerations tokenGenerations;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -45,27 +47,31 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
     private void handleLogin(String role, HttpServletResponse response,
                              PrincipalDetails principalDetails) throws IOException {
-        TokenDto tokenDto = jwtTokenProvider.generateTokenDto(principalDetails);
+        long generation = tokenGenerations.current(principalDetails.getId());
+        TokenDto tokenDto = jwtTokenProvider.generateTokenDto(principalDetails, generation);
         String accessToken = tokenDto.getAccessToken();
         String refreshToken = tokenDto.getRefreshToken();
 
-        Member member = memberRepository.findByEmail(principalDetails.getUsername())
-                .orElseThrow(() -> new MemberException(
-                        MemberExceptionType.MEMBER_NOT_FOUND));
+        String email = principalDetails.getUsername();
+        if (!memberRepository.existsByEmail(email)) {
+            throw new MemberException(MemberExceptionType.MEMBER_NOT_FOUND);
+        }
 
         jwtTokenProvider.accessTokenSetHeader(accessToken, response);
         jwtTokenProvider.setTokenCookie("refreshToken", refreshToken, response);
 
         long refreshTokenExpirationPeriod = jwtTokenProperties.getRefreshExpiration();
-        redisService.setValues(member.getEmail(), refreshToken, Duration.ofMillis(refreshTokenExpirationPeriod));
+        refreshTokenStore.save(email,
+                new RefreshTokenRecord(refreshToken, principalDetails.getId(), role, generation),
+                Duration.ofMillis(refreshTokenExpirationPeriod));
 
         Map<String, String> jsonResponse = new HashMap<>();
         if (Objects.equals(role, Role.GUEST.getKey())) {
             jsonResponse.put("message", "New Member OAuth Login Success");
-            jsonResponse.put("email", member.getEmail());
+            jsonResponse.put("email", email);
         } else {
             jsonResponse.put("message", "Existing Member OAuth Login Success");
-            jsonResponse.put("email", member.getEmail());
+            jsonResponse.put("email", email);
         }
         response.setContentType("application/json;charset=UTF-8");
         response.setStatus(HttpServletResponse.SC_OK);
@@ -1,12 +1,16 @@
 package cloud.zipbob.edgeservice.auth;
 
+import cloud.zipbob.edgeservice.auth.RefreshTokenStore.RefreshTokenRecord;
+import cloud.zipbob.edgeservice.auth.ReissueCoalescer.ReissuedToken;
 import cloud.zipbob.edgeservice.auth.dto.TokenDto;
 import cloud.zipbob.edgeservice.auth.exception.TokenException;
 import cloud.zipbob.edgeservice.auth.exception.TokenExceptionType;
 import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProperties;
 import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProvider;
-import cloud.zipbob.edgeservice.domain.member.Member;
+import cloud.zipbob.edgeservice.auth.jwt.RevokedTokenRegistry;
+import cloud.zipbob.edgeservice.auth.jwt.TokenGenerations;
 import cloud.zipbob.edgeservice.domain.member.Role;
+import cloud.zipbob.edgeservice.domain.member.repository.MemberAuthView;
 import cloud.zipbob.edgeservice.domain.member.repository.MemberRepository;
 import cloud.zipbob.edgeservice.global.redis.RedisService;
 import io.jsonwebtoken.Claims;
@@ -16,10 +20,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.Duration;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -43,25 +46,31 @@ class AuthServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private RevokedTokenRegistry revokedTokenRegistry;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private TokenGenerations tokenGenerations;
+
+    @Mock
+    private ReissueCoalescer reissueCoalescer;
+
     private String email = "test@example.com";
     private String accessToken = "access-token";
     private String refreshToken = "refresh-token";
-    private Member member;
+    private MemberAuthView member;
 
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
-        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-        member = Member.builder()
-                .email(email)
-                .role(Role.USER)
-                .password(passwordEncoder.encode("password"))
-                .nickname("TestUser")
-                .build();
+        member = new MemberAuthView(1L, email, Role.USER);
     }
 
     @Test
-    @DisplayName("Reissue Access Token 성공")
+    @DisplayName("Reissue Access Token 성공 - 이전 형식의 refresh token 저장소")
     void reissueAccessTokenSuccess() {
         // given
         Claims claims = mock(Claims.class);
@@ -69,7 +78,7 @@ class AuthServiceTest {
         when(jwtTokenProvider.parseClaims(refreshToken)).thenReturn(claims);
         when(redisService.getValues(email)).thenReturn(refreshToken);
         when(redisService.checkExistsValue(refreshToken)).thenReturn(true);
-        when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
+        when(memberRepository.findAuthViewByEmail(email)).thenReturn(Optional.of(member));
         TokenDto tokenDto = TokenDto.builder()
                 .grantType("Bearer")
                 .authorizationType("Authorization")
@@ -77,17 +86,63 @@ class AuthServiceTest {
                 .refreshToken("newRefreshToken")
                 .accessTokenExpiresIn(3600000L)
                 .build();
-        when(jwtTokenProvider.generateTokenDto(any())).thenReturn(tokenDto);
+        when(tokenGenerations.current(1L)).thenReturn(0L);
+        when(jwtTokenProvider.generateTokenDto(any(), anyLong())).thenReturn(tokenDto);
+        long refreshExpiration = 1209600000L;
+        when(jwtTokenProperties.getRefreshExpiration()).thenReturn(refreshExpiration);
 
         // when
-        String newAccessToken = authService.reissueAccessToken(refreshToken);
+        ReissuedToken reissued = authService.reissueAccessToken(refreshToken);
 
         // then
-        assertEquals("newAccessToken", newAccessToken);
+        assertEquals(new ReissuedToken("newAccessToken", 1L, 0L), reissued);
         verify(jwtTokenProvider).parseClaims(refreshToken);
         verify(redisService).getValues(email);
         verify(redisService).checkExistsValue(refreshToken);
-        verify(memberRepository).findByEmail(email);
+        verify(memberRepository).findAuthViewByEmail(email);
+        verify(refreshTokenStore).save(email, new RefreshTokenRecord(refreshToken, 1L, "ROLE_USER", 0L),
+                Duration.ofMillis(refreshExpiration));
+        verify(redisService).deleteValues(email);
+    }
+
+    @Test
+    @DisplayName("Reissue Access Token 성공 - DB 조회 없이 refresh token 기록으로 재발급")
+    void reissueAccessTokenSuccess_WithoutDatabase() {
+        // given
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(email);
+        when(jwtTokenProvider.parseClaims(refreshToken)).thenReturn(claims);
+        when(refreshTokenStore.find(email))
+                .thenReturn(Optional.of(new RefreshTokenRecord(refreshToken, 1L, "ROLE_USER", 2L)));
+        when(tokenGenerations.isCurrent(1L, 2L)).thenReturn(true);
+        TokenDto tokenDto = TokenDto.builder()
+                .accessToken("newAccessToken")
+                .build();
+        when(jwtTokenProvider.generateTokenDto(any(), eq(2L))).thenReturn(tokenDto);
+
+        // when
+        ReissuedToken reissued = authService.reissueAccessToken(refreshToken);
+
+        // then
+        assertEquals(new ReissuedToken("newAccessToken", 1L, 2L), reissued);
+        verify(memberRepository, never()).findAuthViewByEmail(anyString());
+        verify(redisService, never()).getValues(anyString());
+    }
+
+    @Test
+    @DisplayName("Reissue Access Token 실패 - 모든 세션이 폐기된 이후의 refresh token")
+    void reissueAccessTokenFail_StaleGeneration() {
+        // given
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(email);
+        when(jwtTokenProvider.parseClaims(refreshToken)).thenReturn(claims);
+        when(refreshTokenStore.find(email))
+                .thenReturn(Optional.of(new RefreshTokenRecord(refreshToken, 1L, "ROLE_USER", 2L)));
+        when(tokenGenerations.isCurrent(1L, 2L)).thenReturn(false);
+
+        // when & then
+        assertThrows(TokenException.class, () -> authService.reissueAccessToken(refreshToken));
+        verify(jwtTokenProvider, never()).generateTokenDto(any(), anyLong());
     }
 
     @Test
@@ -110,15 +165,41 @@ class AuthServiceTest {
         when(jwtTokenProvider.parseClaims(refreshToken)).thenReturn(claims);
         when(redisService.getValues(email)).thenReturn(refreshToken);
         when(redisService.checkExistsValue(refreshToken)).thenReturn(true);
-        long expirationMillis = 3600000L;
-        when(jwtTokenProperties.getAccessExpiration()).thenReturn(expirationMillis);
+        Claims accessTokenClaims = mock(Claims.class);
+        long expiresAt = System.currentTimeMillis() + 3600000L;
+        when(accessTokenClaims.getExpiration()).thenReturn(new Date(expiresAt));
+        when(jwtTokenProvider.parseClaims(accessToken)).thenReturn(accessTokenClaims);
+        when(jwtTokenProvider.tokenId(accessTokenClaims, accessToken)).thenReturn("token-id");
 
         // when
         authService.logout(refreshToken, accessToken);
 
         // then
         verify(redisService).deleteValues(email);
-        verify(redisService).setValues(accessToken, "logout", Duration.ofMillis(expirationMillis));
+        verify(revokedTokenRegistry).revoke("token-id", expiresAt);
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - refresh token 기록 삭제")
+    void logoutSuccess_WithRefreshTokenRecord() {
+        // given
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(email);
+        when(jwtTokenProvider.parseClaims(refreshToken)).thenReturn(claims);
+        when(refreshTokenStore.delete(email)).thenReturn(true);
+        Claims accessTokenClaims = mock(Claims.class);
+        long expiresAt = System.currentTimeMillis() + 3600000L;
+        when(accessTokenClaims.getExpiration()).thenReturn(new Date(expiresAt));
+        when(jwtTokenProvider.parseClaims(accessToken)).thenReturn(accessTokenClaims);
+        when(jwtTokenProvider.tokenId(accessTokenClaims, accessToken)).thenReturn("token-id");
+
+        // when
+        authService.logout(refreshToken, accessToken);
+
+        // then
+        verify(revokedTokenRegistry).revoke("token-id", expiresAt);
+        verify(reissueCoalescer).invalidate(refreshToken);
+        verify(redisService, never()).getValues(email);
     }
 
     @Test
@@ -133,5 +214,6 @@ class AuthServiceTest {
         // when & then
         assertThrows(TokenException.class, () -> authService.logout(refreshToken, accessToken));
         verify(redisService, never()).deleteValues(email);
+        verify(revokedTokenRegistry, never()).revoke(any(), anyLong());
     }
 }
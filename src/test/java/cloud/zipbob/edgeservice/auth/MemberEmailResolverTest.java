@@ -0,0 +1,72 @@
+package cloud.zipbob.edgeservice.auth;
+
+import cloud.zipbob.edgeservice.domain.member.exception.MemberException;
+import cloud.zipbob.edgeservice.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberEmailResolverTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberEmailResolver memberEmailResolver;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        memberEmailResolver = new MemberEmailResolver(memberRepository);
+    }
+
+    @Test
+    @DisplayName("principal에 email이 있으면 DB를 조회하지 않음")
+    void emailOf_ShouldUsePrincipalEmail_WhenPresent() {
+        // when
+        String email = memberEmailResolver.emailOf(PrincipalDetails.of(1L, "test@example.com", "ROLE_USER"));
+
+        // then
+        assertEquals("test@example.com", email);
+        verify(memberRepository, never()).findEmailById(anyLong());
+    }
+
+    @Test
+    @DisplayName("compact 토큰의 principal은 회원 id로 email을 한 번만 찾아 보관")
+    void emailOf_ShouldLoadEmailByIdOnce_WhenPrincipalHasNoEmail() {
+        // given
+        when(memberRepository.findEmailById(1L)).thenReturn(Optional.of("test@example.com"));
+        PrincipalDetails principal = PrincipalDetails.of(1L, null, "ROLE_USER");
+
+        // when
+        String first = memberEmailResolver.emailOf(principal);
+        String second = memberEmailResolver.emailOf(principal);
+
+        // then
+        assertEquals("test@example.com", first);
+        assertEquals("test@example.com", second);
+        verify(memberRepository, times(1)).findEmailById(1L);
+    }
+
+    @Test
+    @DisplayName("회원이 없으면 예외")
+    void emailOf_ShouldThrow_WhenMemberDoesNotExist() {
+        // given
+        when(memberRepository.findEmailById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(MemberException.class,
+                () -> memberEmailResolver.emailOf(PrincipalDetails.of(1L, null, "ROLE_USER")));
+    }
+}
@@ -0,0 +1,91 @@
+package cloud.zipbob.edgeservice.auth;
+
+import cloud.zipbob.edgeservice.auth.RefreshTokenStore.RefreshTokenRecord;
+import cloud.zipbob.edgeservice.global.redis.RedisClientSideCache;
+import cloud.zipbob.edgeservice.global.redis.RedisResilienceProperties;
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenStoreTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisClientSideCache redisClientSideCache;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        refreshTokenStore = new RefreshTokenStore(new RedisRoundTrips(stringRedisTemplate, new SimpleMeterRegistry(),
+                new RedisResilienceProperties()), redisClientSideCache);
+    }
+
+    @Test
+    @DisplayName("refresh token 기록에서 재발급에 필요한 principal 정보를 읽음")
+    void find_ShouldReadRecord() {
+        // given
+        when(hashOperations.entries("refresh:test@example.com")).thenReturn(Map.of(
+                "token", "refresh-token", "memberId", "1", "role", "ROLE_USER", "gen", "3"));
+
+        // when
+        Optional<RefreshTokenRecord> record = refreshTokenStore.find("test@example.com");
+
+        // then
+        assertEquals(Optional.of(new RefreshTokenRecord("refresh-token", 1L, "ROLE_USER", 3L)), record);
+    }
+
+    @Test
+    @DisplayName("refresh token 기록이 없으면 빈 값을 반환")
+    void find_ShouldReturnEmpty_WhenRecordDoesNotExist() {
+        // given
+        when(hashOperations.entries("refresh:test@example.com")).thenReturn(Map.of());
+
+        // when & then
+        assertTrue(refreshTokenStore.find("test@example.com").isEmpty());
+    }
+
+    @Test
+    @DisplayName("client-side caching이 추적하는 키는 로컬 사본에서 읽음")
+    void find_ShouldReadFromClientSideCache_WhenKeyIsTracked() {
+        // given
+        when(redisClientSideCache.tracks("refresh:test@example.com")).thenReturn(true);
+        when(redisClientSideCache.hgetall("refresh:test@example.com")).thenReturn(Map.of(
+                "token", bytes("refresh-token"), "memberId", bytes("1"), "role", bytes("ROLE_USER"),
+                "gen", bytes("3")));
+
+        // when
+        Optional<RefreshTokenRecord> record = refreshTokenStore.find("test@example.com");
+
+        // then
+        assertEquals(Optional.of(new RefreshTokenRecord("refresh-token", 1L, "ROLE_USER", 3L)), record);
+        verify(hashOperations, never()).entries("refresh:test@example.com");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,172 @@
+package cloud.zipbob.edgeservice.auth;
+
+import cloud.zipbob.edgeservice.auth.exception.TokenException;
+import cloud.zipbob.edgeservice.auth.exception.TokenExceptionType;
+import cloud.zipbob.edgeservice.auth.ReissueCoalescer.ReissuedToken;
+import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProperties;
+import cloud.zipbob.edgeservice.auth.jwt.TokenGenerations;
+import cloud.zipbob.edgeservice.global.redis.RedisResilienceProperties;
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReissueCoalescerTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private TokenGenerations tokenGenerations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReissueCoalescer reissueCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        RedisRoundTrips redisRoundTrips = new RedisRoundTrips(stringRedisTemplate, meterRegistry,
+                new RedisResilienceProperties());
+        reissueCoalescer = new ReissueCoalescer(redisRoundTrips, new JwtTokenProperties(), tokenGenerations,
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 refresh token의 동시 재발급은 한 번만 수행하고 결과를 공유")
+    void reissue_ShouldCoalesceConcurrentCalls() throws Exception {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<String> first = executor.submit(() -> reissueCoalescer.reissue("refresh-token", token -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new ReissuedToken("new-access-token", 1L, 0L);
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> second = executor.submit(() -> reissueCoalescer.reissue("refresh-token", token -> {
+            executions.incrementAndGet();
+            return new ReissuedToken("other-access-token", 1L, 0L);
+        }));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("auth.reissue", "result", "coalesced_local").count() == 0
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        assertEquals("new-access-token", first.get(5, TimeUnit.SECONDS));
+        assertEquals("new-access-token", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 방금 재발급한 결과가 있으면 재사용")
+    void reissue_ShouldReuseResultFromRedis() {
+        // given
+        when(valueOperations.get(anyString())).thenReturn("1:0:cached-access-token");
+        when(tokenGenerations.isCurrent(1L, 0L)).thenReturn(true);
+
+        // when
+        String accessToken = reissueCoalescer.reissue("refresh-token",
+                token -> new ReissuedToken("new-access-token", 1L, 0L));
+
+        // then
+        assertEquals("cached-access-token", accessToken);
+        assertEquals(1, meterRegistry.counter("auth.reissue", "result", "coalesced_redis").count());
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 결과를 발급한 뒤 세션이 폐기되었으면 재사용하지 않고 다시 재발급")
+    void reissue_ShouldNotReuseResult_WhenGenerationIsStale() {
+        // given
+        when(valueOperations.get(anyString())).thenReturn("1:0:cached-access-token");
+        when(tokenGenerations.isCurrent(1L, 0L)).thenReturn(false);
+
+        // when & then
+        assertThrows(TokenException.class, () -> reissueCoalescer.reissue("refresh-token", token -> {
+            throw new TokenException(TokenExceptionType.TOKEN_INVALID);
+        }));
+        verify(stringRedisTemplate).delete(startsWith("reissue:"));
+        assertEquals(0, meterRegistry.counter("auth.reissue", "result", "coalesced_redis").count());
+    }
+
+    @Test
+    @DisplayName("재발급 결과는 회원 id와 세대를 함께 저장")
+    void reissue_ShouldStoreGenerationWithResult() {
+        // when
+        reissueCoalescer.reissue("refresh-token", token -> new ReissuedToken("new-access-token", 1L, 3L));
+
+        // then
+        verify(valueOperations).setIfAbsent(startsWith("reissue:"), eq("1:3:new-access-token"), any());
+    }
+
+    @Test
+    @DisplayName("재발급 실패는 결과를 저장하지 않고 예외를 그대로 전달")
+    void reissue_ShouldPropagateFailure() {
+        // when & then
+        TokenException exception = assertThrows(TokenException.class,
+                () -> reissueCoalescer.reissue("refresh-token", token -> {
+                    throw new TokenException(TokenExceptionType.TOKEN_INVALID);
+                }));
+        assertEquals(TokenExceptionType.TOKEN_INVALID, exception.getExceptionType());
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Redis를 쓸 수 없으면 결과 공유 없이 재발급을 수행")
+    void reissue_ShouldReissue_WhenRedisIsUnavailable() {
+        // given
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        String accessToken = reissueCoalescer.reissue("refresh-token",
+                token -> new ReissuedToken("new-access-token", 1L, 0L));
+
+        // then
+        assertEquals("new-access-token", accessToken);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package cloud.zipbob.edgeservice.auth.filter;
 
+import cloud.zipbob.edgeservice.auth.PrincipalDetails;
+import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProperties;
+import cloud.zipbob.edgeservice.auth.jwt.AccessTokenRenewer;
 import cloud.zipbob.edgeservice.auth.jwt.JwtTokenProvider;
-import cloud.zipbob.edgeservice.global.redis.RedisService;
+import cloud.zipbob.edgeservice.auth.jwt.RevokedTokenRegistry;
+import cloud.zipbob.edgeservice.auth.jwt.TokenGenerations;
+import cloud.zipbob.edgeservice.auth.jwt.VerifiedToken;
+import cloud.zipbob.edgeservice.auth.jwt.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -19,6 +25,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class JwtVerificationFilterTest {
@@ -27,9 +35,14 @@ class JwtVerificationFilterTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private RedisService redisService;
+    private RevokedTokenRegistry revokedTokenRegistry;
+
+    @Mock
+    private TokenGenerations tokenGenerations;
+
+    @Mock
+    private AccessTokenRenewer accessTokenRenewer;
 
-    @InjectMocks
     private JwtVerificationFilter jwtVerificationFilter;
 
     private MockHttpServletRequest request;
@@ -37,14 +50,19 @@ class JwtVerificationFilterTest {
     private FilterChain filterChain;
 
     private static final String TEST_TOKEN = "valid-access-token";
+    private static final String TOKEN_ID = "token-id";
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(new JwtTokenProperties(), new SimpleMeterRegistry());
+        jwtVerificationFilter = new JwtVerificationFilter(jwtTokenProvider, verifiedTokenCache, revokedTokenRegistry,
+                tokenGenerations, accessTokenRenewer);
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
         filterChain = mock(FilterChain.class);
         request.addHeader("Authorization", "Bearer " + TEST_TOKEN);
+        when(tokenGenerations.isCurrent(anyLong(), anyLong())).thenReturn(true);
     }
 
     @Test
@@ -52,10 +70,9 @@ class JwtVerificationFilterTest {
     void doFilterInternal_ShouldSetAuthentication_WhenValidToken() throws ServletException, IOException {
         //given
         when(jwtTokenProvider.resolveAccessToken(request)).thenReturn(TEST_TOKEN);
-        when(jwtTokenProvider.validateToken(TEST_TOKEN)).thenReturn(true);
-        when(redisService.getValues(TEST_TOKEN)).thenReturn("false");
         Authentication authentication = mock(Authentication.class);
-        when(jwtTokenProvider.getAuthentication(TEST_TOKEN)).thenReturn(authentication);
+        VerifiedToken verifiedToken = new VerifiedToken(mock(PrincipalDetails.class), authentication, TOKEN_ID, 0L, validUntil(), System.currentTimeMillis());
+        when(jwtTokenProvider.verify(TEST_TOKEN)).thenReturn(verifiedToken);
 
         //when
         jwtVerificationFilter.doFilterInternal(request, response, filterChain);
@@ -70,14 +87,16 @@ class JwtVerificationFilterTest {
     void doFilterInternal_ShouldReturnUnauthorized_WhenLogoutToken() throws ServletException, IOException {
         //given
         when(jwtTokenProvider.resolveAccessToken(request)).thenReturn(TEST_TOKEN);
-        when(jwtTokenProvider.validateToken(TEST_TOKEN)).thenReturn(true);
-        when(redisService.getValues(TEST_TOKEN)).thenReturn("true");
+        VerifiedToken verifiedToken = new VerifiedToken(mock(PrincipalDetails.class), mock(Authentication.class), TOKEN_ID, 0L, validUntil(), System.currentTimeMillis());
+        when(jwtTokenProvider.verify(TEST_TOKEN)).thenReturn(verifiedToken);
+        when(revokedTokenRegistry.isRevoked(TOKEN_ID)).thenReturn(true);
 
         //when
         jwtVerificationFilter.doFilterInternal(request, response, filterChain);
 
         //then
         assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        verify(filterChain, never()).doFilter(request, response);
     }
 
     @Test
@@ -85,12 +104,120 @@ class JwtVerificationFilterTest {
     void doFilterInternal_ShouldHandleException_WhenInvalidToken() throws ServletException, IOException {
         //given
         when(jwtTokenProvider.resolveAccessToken(request)).thenReturn(TEST_TOKEN);
-        when(jwtTokenProvider.validateToken(TEST_TOKEN)).thenThrow(new RuntimeException("Invalid token"));
+        when(jwtTokenProvider.verify(TEST_TOKEN)).thenThrow(new RuntimeException("Invalid token"));
+
+        //when
+        jwtVerificationFilter.doFilterInternal(request, response, filterChain);
+
+        //then
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("토큰 검증은 요청당 한 번만 수행")
+    void doFilterInternal_ShouldVerifyTokenOnce() throws ServletException, IOException {
+        //given
+        when(jwtTokenProvider.resolveAccessToken(request)).thenReturn(TEST_TOKEN);
+        VerifiedToken verifiedToken = new VerifiedToken(mock(PrincipalDetails.class), mock(Authentication.class), TOKEN_ID, 0L, validUntil(), System.currentTimeMillis());
+        when(jwtTokenProvider.verify(TEST_TOKEN)).thenReturn(verifiedToken);
+
+        //when
+        jwtVerificationFilter.doFilterInternal(request, response, filterChain);
+
+        //then
+        verify(jwtTokenProvider, times(1)).verify(TEST_TOKEN);
+        verify(jwtTokenProvider, never()).validateToken(TEST_TOKEN);
+        verify(jwtTokenProvider, never()).getAuthentication(TEST_TOKEN);
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 반복 요청은 캐시된 검증 결과를 사용")
+    void doFilterInternal_ShouldReuseVerifiedToken_WhenSameTokenRepeated() throws ServletException, IOException {
+        //given
+        when(jwtTokenProvider.resolveAccessToken(request)).thenReturn(TEST_TOKEN);
+        VerifiedToken verifiedToken = new VerifiedToken(mock(PrincipalDetails.class), mock(Authentication.class), TOKEN_ID, 0L, validUntil(), System.currentTimeMillis());
+        when(jwtTokenProvider.verify(TEST_TOKEN)).thenReturn(verifiedToken);
+
+        //when
+        jwtVerificationFilter.doFilterInternal(request, response, filterChain);
+        jwtVerificationFilter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        //then
+        verify(jwtTokenProvider, times(1)).verify(TEST_TOKEN);
+        verify(revokedTokenRegistry, times(2)).isRevoked(TOKEN_ID);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰이라도 로그아웃 상태이면 401 반환")
+    void doFilterInternal_ShouldReturnUnauthorized_WhenCachedTokenIsLoggedOut() throws ServletException, IOException {
+        //given
+        when(jwtTokenProvider.resolveAccessToken(request)).thenReturn(TEST_TOKEN);
+        when(revokedTokenRegistry.isRevoked(TOKEN_ID)).thenReturn(false, true);
+        VerifiedToken verifiedToken = new VerifiedToken(mock(PrincipalDetails.class), mock(Authentication.class), TOKEN_ID, 0L, validUntil(), System.currentTimeMillis());
+        when(jwtTokenProvider.verify(TEST_TOKEN)).thenReturn(verifiedToken);
+        jwtVerificationFilter.doFilterInternal(request, response, filterChain);
+
+        //when
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        jwtVerificationFilter.doFilterInternal(request, secondResponse, filterChain);
+
+        //then
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, secondResponse.getStatus());
+        verify(filterChain, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("회원의 현재 세대보다 오래된 토큰은 401 반환")
+    void doFilterInternal_ShouldReturnUnauthorized_WhenGenerationIsStale() throws ServletException, IOException {
+        //given
+        when(jwtTokenProvider.resolveAccessToken(request)).thenReturn(TEST_TOKEN);
+        PrincipalDetails principal = mock(PrincipalDetails.class);
+        when(principal.getId()).thenReturn(1L);
+        VerifiedToken verifiedToken = new VerifiedToken(principal, mock(Authentication.class), TOKEN_ID, 0L, validUntil(), System.currentTimeMillis());
+        when(jwtTokenProvider.verify(TEST_TOKEN)).thenReturn(verifiedToken);
+        when(tokenGenerations.isCurrent(1L, 0L)).thenReturn(false);
 
         //when
         jwtVerificationFilter.doFilterInternal(request, response, filterChain);
 
         //then
         assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 토큰이면 응답 헤더로 새 access token을 전달")
+    void doFilterInternal_ShouldSetRenewedToken_WhenTokenIsExpiring() throws ServletException, IOException {
+        //given
+        when(jwtTokenProvider.resolveAccessToken(request)).thenReturn(TEST_TOKEN);
+        VerifiedToken verifiedToken = new VerifiedToken(mock(PrincipalDetails.class), mock(Authentication.class), TOKEN_ID, 0L, validUntil(), System.currentTimeMillis());
+        when(jwtTokenProvider.verify(TEST_TOKEN)).thenReturn(verifiedToken);
+        when(accessTokenRenewer.renewIfExpiring(verifiedToken)).thenReturn("renewed-access-token");
+
+        //when
+        jwtVerificationFilter.doFilterInternal(request, response, filterChain);
+
+        //then
+        verify(jwtTokenProvider).accessTokenSetHeader("renewed-access-token", response);
+        verify(filterChain).doFilter(request, response);
+    }
+
+    private long validUntil() {
+        return System.currentTimeMillis() + 60000;
+    }
+
+    @Test
+    @DisplayName("경로 변수가 붙은 닉네임 조회 경로는 토큰 검증에서 제외")
+    void shouldNotFilter_ShouldMatchExcludedPathPrefix() {
+        //given
+        MockHttpServletRequest suggest = new MockHttpServletRequest("GET", "/members/nickname-suggest/kim");
+        suggest.setServletPath("/members/nickname-suggest/kim");
+        MockHttpServletRequest myInfo = new MockHttpServletRequest("GET", "/members/myInfo");
+        myInfo.setServletPath("/members/myInfo");
+
+        //when & then
+        assertTrue(jwtVerificationFilter.shouldNotFilter(suggest));
+        assertFalse(jwtVerificationFilter.shouldNotFilter(myInfo));
     }
 }
@@ -0,0 +1,153 @@
+package cloud.zipbob.edgeservice.auth.filter;
+
+import cloud.zipbob.edgeservice.auth.PrincipalDetails;
+import cloud.zipbob.edgeservice.global.redis.HybridRateLimiter;
+import cloud.zipbob.edgeservice.global.redis.RateLimitClass;
+import cloud.zipbob.edgeservice.global.redis.RateLimitDecision;
+import cloud.zipbob.edgeservice.global.redis.RateLimitPolicyTable;
+import cloud.zipbob.edgeservice.global.redis.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitingFilterTest {
+
+    private static final RateLimitClass MEMBER =
+            new RateLimitClass(RateLimitProperties.MEMBER, 100, 100, Duration.ofSeconds(1));
+    private static final RateLimitClass ANONYMOUS =
+            new RateLimitClass(RateLimitProperties.ANONYMOUS, 50, 50, Duration.ofSeconds(1));
+
+    @Mock
+    private HybridRateLimiter hybridRateLimiter;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private RateLimitProperties rateLimitProperties;
+    private RateLimitingFilter rateLimitingFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        rateLimitProperties = new RateLimitProperties();
+        rateLimitingFilter = new RateLimitingFilter(hybridRateLimiter, new RateLimitPolicyTable(rateLimitProperties),
+                rateLimitProperties);
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("인증된 요청은 회원 id로 제한하고 남은 요청 수를 헤더에 기록")
+    void doFilter_ShouldLimitByMemberId_WhenAuthenticated() throws ServletException, IOException {
+        // given
+        PrincipalDetails principalDetails = PrincipalDetails.of(1L, "test@example.com", "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                principalDetails, null, principalDetails.getAuthorities()));
+        when(hybridRateLimiter.tryAcquire(MEMBER, "1"))
+                .thenReturn(new RateLimitDecision(true, 100, 99, 1, 0));
+
+        // when
+        rateLimitingFilter.doFilter(request, response, filterChain);
+
+        // then
+        verify(filterChain).doFilter(request, response);
+        assertEquals("100", response.getHeader("RateLimit-Limit"));
+        assertEquals("99", response.getHeader("RateLimit-Remaining"));
+        assertEquals("1", response.getHeader("RateLimit-Reset"));
+    }
+
+    @Test
+    @DisplayName("제한을 넘은 비회원 요청은 클라이언트 IP 기준으로 429를 반환")
+    void doFilter_ShouldReject_WhenAnonymousClientExceedsLimit() throws ServletException, IOException {
+        // given
+        rateLimitProperties.getTrustedProxies().addAll(List.of("10.0.0.1", "10.0.0.2"));
+        request.setRemoteAddr("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "198.51.100.1, 203.0.113.7, 10.0.0.1");
+        when(hybridRateLimiter.tryAcquire(ANONYMOUS, "203.0.113.7"))
+                .thenReturn(new RateLimitDecision(false, 50, 0, 1, 1));
+
+        // when
+        rateLimitingFilter.doFilter(request, response, filterChain);
+
+        // then
+        verify(filterChain, never()).doFilter(request, response);
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("TOO_MANY_REQUESTS"));
+    }
+
+    @Test
+    @DisplayName("경로와 역할이 일치하는 정책이 있으면 그 등급의 bucket으로 제한")
+    void doFilter_ShouldUsePolicyKeyClass_WhenRouteAndRoleMatch() throws ServletException, IOException {
+        // given
+        rateLimitProperties.getClasses().put("recipe-guest",
+                new RateLimitProperties.BucketProperties(5, 5, Duration.ofSeconds(1)));
+        RateLimitProperties.PolicyProperties policy = new RateLimitProperties.PolicyProperties();
+        policy.setPattern("/recipes/**");
+        policy.setRoles(List.of("GUEST"));
+        policy.setKeyClass("recipe-guest");
+        rateLimitProperties.getPolicies().add(policy);
+        rateLimitingFilter = new RateLimitingFilter(hybridRateLimiter, new RateLimitPolicyTable(rateLimitProperties),
+                rateLimitProperties);
+        PrincipalDetails principalDetails = PrincipalDetails.of(1L, "test@example.com", "ROLE_GUEST");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                principalDetails, null, principalDetails.getAuthorities()));
+        request.setRequestURI("/recipes/search");
+        when(hybridRateLimiter.tryAcquire(new RateLimitClass("recipe-guest", 5, 5, Duration.ofSeconds(1)), "1"))
+                .thenReturn(new RateLimitDecision(true, 5, 4, 1, 0));
+
+        // when
+        rateLimitingFilter.doFilter(request, response, filterChain);
+
+        // then
+        verify(filterChain).doFilter(request, response);
+        assertEquals("5", response.getHeader("RateLimit-Limit"));
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 연결의 X-Forwarded-For는 무시하고 접속 주소로 제한")
+    void doFilter_ShouldIgnoreSpoofedForwardedFor_WhenPeerIsNotTrusted() throws ServletException, IOException {
+        // given
+        request.setRemoteAddr("203.0.113.7");
+        when(hybridRateLimiter.tryAcquire(ANONYMOUS, "203.0.113.7"))
+                .thenReturn(new RateLimitDecision(true, 50, 49, 1, 0), new RateLimitDecision(false, 50, 0, 1, 1));
+        rateLimitingFilter.doFilter(request, response, filterChain);
+        MockHttpServletRequest spoofed = new MockHttpServletRequest();
+        spoofed.setRemoteAddr("203.0.113.7");
+        spoofed.addHeader("X-Forwarded-For", "198.51.100.99");
+        MockHttpServletResponse spoofedResponse = new MockHttpServletResponse();
+
+        // when
+        rateLimitingFilter.doFilter(spoofed, spoofedResponse, filterChain);
+
+        // then
+        assertEquals(429, spoofedResponse.getStatus());
+        verify(hybridRateLimiter, never()).tryAcquire(ANONYMOUS, "198.51.100.99");
+    }
+}
@@ -0,0 +1,141 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import cloud.zipbob.edgeservice.auth.PrincipalDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenRenewerTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private JwtTokenProperties jwtTokenProperties;
+    private AccessTokenRenewer accessTokenRenewer;
+    private PrincipalDetails principal;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        jwtTokenProperties = new JwtTokenProperties();
+        jwtTokenProperties.getRenewal().setEnabled(true);
+        jwtTokenProperties.setRefreshExpiration(Duration.ofDays(14).toMillis());
+        accessTokenRenewer = new AccessTokenRenewer(jwtTokenProvider, jwtTokenProperties, new SimpleMeterRegistry());
+        principal = PrincipalDetails.of(1L, "test@example.com", "ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("갱신 구간 안의 토큰은 회원별로 한 번만 새 토큰을 발급")
+    void renewIfExpiring_ShouldIssueOncePerMember() {
+        // given
+        long authenticatedAt = System.currentTimeMillis() - 3600000;
+        when(jwtTokenProvider.generateAccessToken(principal, 2L, authenticatedAt)).thenReturn("renewed-access-token");
+        long expiresAt = System.currentTimeMillis() + 60000;
+
+        // when
+        String first = accessTokenRenewer.renewIfExpiring(
+                new VerifiedToken(principal, null, "a", 2L, expiresAt, authenticatedAt));
+        String second = accessTokenRenewer.renewIfExpiring(
+                new VerifiedToken(principal, null, "b", 2L, expiresAt, authenticatedAt));
+
+        // then
+        assertEquals("renewed-access-token", first);
+        assertEquals("renewed-access-token", second);
+        verify(jwtTokenProvider, times(1)).generateAccessToken(principal, 2L, authenticatedAt);
+    }
+
+    @Test
+    @DisplayName("만료까지 여유가 있는 토큰은 갱신하지 않음")
+    void renewIfExpiring_ShouldSkip_WhenOutsideWindow() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 3600000;
+
+        // when
+        String renewed = accessTokenRenewer.renewIfExpiring(
+                new VerifiedToken(principal, null, "a", 0L, expiresAt, System.currentTimeMillis()));
+
+        // then
+        assertNull(renewed);
+        verify(jwtTokenProvider, never()).generateAccessToken(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("갱신 기능이 꺼져 있으면 갱신하지 않음")
+    void renewIfExpiring_ShouldSkip_WhenDisabled() {
+        // given
+        jwtTokenProperties.getRenewal().setEnabled(false);
+        long expiresAt = System.currentTimeMillis() + 60000;
+
+        // when
+        String renewed = accessTokenRenewer.renewIfExpiring(
+                new VerifiedToken(principal, null, "a", 0L, expiresAt, System.currentTimeMillis()));
+
+        // then
+        assertNull(renewed);
+    }
+
+    @Test
+    @DisplayName("로그인 후 refresh 만료 기간이 지나면 갱신을 반복해도 더 이상 새 토큰을 발급하지 않음")
+    void renewIfExpiring_ShouldStop_WhenRefreshExpirationHasPassedSinceLogin() {
+        // given
+        long authenticatedAt = System.currentTimeMillis() - Duration.ofDays(14).toMillis() - 1000;
+        long expiresAt = System.currentTimeMillis() + 60000;
+
+        // when
+        String renewed = accessTokenRenewer.renewIfExpiring(
+                new VerifiedToken(principal, null, "a", 0L, expiresAt, authenticatedAt));
+
+        // then
+        assertNull(renewed);
+        verify(jwtTokenProvider, never()).generateAccessToken(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("renewal.max-lifetime이 설정되면 refresh 만료 기간 대신 그 기간으로 갱신을 제한")
+    void renewIfExpiring_ShouldStop_WhenMaxLifetimeHasPassed() {
+        // given
+        jwtTokenProperties.getRenewal().setMaxLifetime(Duration.ofHours(8));
+        long expiresAt = System.currentTimeMillis() + 60000;
+        long withinLifetime = System.currentTimeMillis() - Duration.ofHours(7).toMillis();
+        long pastLifetime = System.currentTimeMillis() - Duration.ofHours(9).toMillis();
+        when(jwtTokenProvider.generateAccessToken(principal, 0L, withinLifetime)).thenReturn("renewed-access-token");
+
+        // when
+        String renewed = accessTokenRenewer.renewIfExpiring(
+                new VerifiedToken(principal, null, "a", 0L, expiresAt, withinLifetime));
+        String expired = accessTokenRenewer.renewIfExpiring(
+                new VerifiedToken(principal, null, "b", 0L, expiresAt, pastLifetime));
+
+        // then
+        assertEquals("renewed-access-token", renewed);
+        assertNull(expired);
+        verify(jwtTokenProvider, never()).generateAccessToken(principal, 0L, pastLifetime);
+    }
+
+    @Test
+    @DisplayName("로그인 시각이 없는 이전 토큰은 갱신하지 않음")
+    void renewIfExpiring_ShouldSkip_WhenAuthenticatedAtIsMissing() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60000;
+
+        // when
+        String renewed = accessTokenRenewer.renewIfExpiring(
+                new VerifiedToken(principal, null, "a", 0L, expiresAt, 0L));
+
+        // then
+        assertNull(renewed);
+    }
+}
@@ -0,0 +1,159 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class Hs256FastVerifierTest {
+
+    private static final long ALLOCATION_BUDGET_BYTES_PER_VERIFICATION = 64;
+
+    private Key key;
+    private Hs256FastVerifier fastVerifier;
+
+    @BeforeEach
+    void setUp() {
+        key = Keys.hmacShaKeyFor("test-secret-key-that-is-long-enough-very-very-very-long-key"
+                .getBytes(StandardCharsets.UTF_8));
+        String probe = Jwts.builder().setSubject("probe").signWith(key, SignatureAlgorithm.HS256).compact();
+        fastVerifier = new Hs256FastVerifier(key.getEncoded(), probe.substring(0, probe.indexOf('.')),
+                List.of("ROLE_GUEST", "ROLE_USER"));
+    }
+
+    @Test
+    @DisplayName("발급 형식의 토큰은 fast path에서 클레임을 읽음")
+    void verify_ShouldReadClaims_WhenTokenIssuedByProvider() {
+        // given
+        long expiration = System.currentTimeMillis() / 1000 * 1000 + 60000;
+        String token = accessToken(3_000_000_000L, "ROLE_USER", new Date(expiration));
+
+        // when
+        Hs256FastVerifier.FastClaims claims = fastVerifier.verify(token);
+
+        // then
+        assertNotNull(claims);
+        assertEquals(3_000_000_000L, claims.memberId());
+        assertEquals("ROLE_USER", claims.role());
+        assertEquals("test@example.com", claims.subject());
+        assertEquals("AAECAwQFBgcICQoL", claims.tokenId());
+        assertEquals(expiration, claims.expiresAt());
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 fast path에서 처리하지 않음")
+    void verify_ShouldReturnNull_WhenSignatureTampered() {
+        // given
+        String token = accessToken(1L, "ROLE_USER", new Date(System.currentTimeMillis() + 60000));
+        int index = token.length() - 10;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index) + replacement + token.substring(index + 1);
+
+        // when & then
+        assertNull(fastVerifier.verify(tampered));
+    }
+
+    @Test
+    @DisplayName("만료, 미지원 헤더, 알 수 없는 role은 jjwt 경로로 넘김")
+    void verify_ShouldReturnNull_WhenTokenNeedsFallback() {
+        // given
+        String expired = accessToken(1L, "ROLE_USER", new Date(System.currentTimeMillis() - 60000));
+        String unknownRole = accessToken(1L, "ROLE_ADMIN", new Date(System.currentTimeMillis() + 60000));
+        String otherHeader = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .claim("memberId", 1L)
+                .claim("role", "ROLE_USER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertNull(fastVerifier.verify(expired));
+        assertNull(fastVerifier.verify(unknownRole));
+        assertNull(fastVerifier.verify(otherHeader));
+        assertNull(fastVerifier.verify("not-a-token"));
+    }
+
+    @Test
+    @DisplayName("fast path 검증의 메모리 할당이 예산 이내")
+    void verify_ShouldStayWithinAllocationBudget() {
+        // given
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        String token = accessToken(1L, "ROLE_USER", new Date(System.currentTimeMillis() + 600000));
+        int iterations = 50_000;
+        for (int i = 0; i < iterations; i++) {
+            fastVerifier.verify(token);
+        }
+
+        // when
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            fastVerifier.verify(token);
+        }
+        long bytesPerVerification = (threadMXBean.getCurrentThreadAllocatedBytes() - before) / iterations;
+
+        // then
+        assertTrue(bytesPerVerification <= ALLOCATION_BUDGET_BYTES_PER_VERIFICATION,
+                "allocated " + bytesPerVerification + " bytes per verification");
+    }
+
+    @Test
+    @DisplayName("compact 프로필 토큰도 fast path에서 클레임을 읽음")
+    void verify_ShouldReadCompactClaims() {
+        // given
+        Hs256FastVerifier compactVerifier = new Hs256FastVerifier(key.getEncoded(), headerSegment(),
+                Map.of("U", "ROLE_USER"));
+        long expiration = System.currentTimeMillis() / 1000 * 1000 + 60000;
+        String token = Jwts.builder()
+                .setSubject("3000000000")
+                .claim("r", "U")
+                .claim("g", 4)
+                .setExpiration(new Date(expiration))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        Hs256FastVerifier.FastClaims claims = compactVerifier.verify(token);
+
+        // then
+        assertNotNull(claims);
+        assertEquals(3_000_000_000L, claims.memberId());
+        assertEquals("ROLE_USER", claims.role());
+        assertNull(claims.email());
+        assertEquals(4L, claims.generation());
+        assertEquals(expiration, claims.expiresAt());
+    }
+
+    private String headerSegment() {
+        String probe = Jwts.builder().setSubject("probe").signWith(key, SignatureAlgorithm.HS256).compact();
+        return probe.substring(0, probe.indexOf('.'));
+    }
+
+    private String accessToken(long memberId, String role, Date expiration) {
+        return Jwts.builder()
+                .claim("memberId", memberId)
+                .claim("role", role)
+                .setId("AAECAwQFBgcICQoL")
+                .setSubject("test@example.com")
+                .setExpiration(expiration)
+                .setIssuedAt(new Date())
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
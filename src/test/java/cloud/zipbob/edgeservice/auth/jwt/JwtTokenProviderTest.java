@@ -7,7 +7,9 @@ import cloud.zipbob.edgeservice.auth.exception.TokenExceptionType;
 import cloud.zipbob.edgeservice.domain.member.Member;
 import cloud.zipbob.edgeservice.domain.member.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,10 +17,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -32,19 +40,26 @@ class JwtTokenProviderTest {
     @Mock
     private JwtTokenProperties jwtTokenProperties;
 
+    @Mock
+    private TokenGenerations tokenGenerations;
+
+    private static final String SECRET_KEY = "test-secret-key-that-is-long-enough-very-very-very-long-key";
+    private static final String ROTATED_SECRET_KEY = "rotated-secret-key-that-is-long-enough-very-very-very-long-key";
+
     private Key key;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
-        when(jwtTokenProperties.getSecretKey()).thenReturn("test-secret-key-that-is-long-enough-very-very-very-long-key");
+        when(jwtTokenProperties.getSecretKey()).thenReturn(SECRET_KEY);
         when(jwtTokenProperties.getAccessExpiration()).thenReturn(3600000L);  // 1시간
         when(jwtTokenProperties.getRefreshExpiration()).thenReturn(1209600000L);  // 2주
+        when(jwtTokenProperties.getSigning()).thenReturn(new JwtTokenProperties.SigningProperties());
 
-        jwtTokenProvider = new JwtTokenProvider(jwtTokenProperties);
+        jwtTokenProvider = new JwtTokenProvider(jwtTokenProperties, tokenGenerations);
         jwtTokenProvider.init();
-        key = (Key) ReflectionTestUtils.getField(jwtTokenProvider, "key");
+        key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
     }
 
     @Test
@@ -120,4 +135,335 @@ class JwtTokenProviderTest {
         assertEquals(principalDetails.getUsername(), auth.getName());
         assertTrue(auth.getAuthorities().stream().anyMatch(granted -> granted.getAuthority().equals("ROLE_USER")));
     }
+
+    @Test
+    @DisplayName("verify는 한 번의 파싱으로 클레임과 인증 정보를 함께 반환")
+    void verify_ShouldReturnClaimsAndAuthentication() {
+        // given
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build();
+        String token = jwtTokenProvider.generateTokenDto(new PrincipalDetails(member)).getAccessToken();
+
+        // when
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(token);
+
+        // then
+        assertEquals("test@example.com", verifiedToken.principal().getUsername());
+        assertEquals(1L, verifiedToken.principal().getId());
+        assertEquals(jwtTokenProvider.parseClaims(token).getId(), verifiedToken.tokenId());
+        assertEquals(16, verifiedToken.tokenId().length());
+        assertEquals("test@example.com", verifiedToken.authentication().getName());
+        assertSame(verifiedToken.principal(), verifiedToken.authentication().getPrincipal());
+    }
+
+    @Test
+    @DisplayName("verify는 만료된 토큰에 대해 예외를 발생")
+    void verify_ShouldThrowExceptionForExpiredToken() {
+        // given
+        String token = Jwts.builder()
+                .claim("memberId", 1L)
+                .claim("role", "ROLE_USER")
+                .setSubject("test@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() - 60000))
+                .signWith(key)
+                .compact();
+
+        // when & then
+        TokenException exception = assertThrows(TokenException.class, () -> jwtTokenProvider.verify(token));
+        assertEquals(TokenExceptionType.TOKEN_EXPIRED, exception.getExceptionType());
+    }
+
+    @Test
+    @DisplayName("fast path가 처리하지 못하는 토큰은 jjwt 경로로 검증")
+    void verify_ShouldFallBackToJjwt_WhenFastPathCannotHandleToken() {
+        // given
+        String token = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .claim("memberId", 2L)
+                .claim("role", "ROLE_ADMIN")
+                .setSubject("admin@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(key)
+                .compact();
+
+        // when
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(token);
+
+        // then
+        assertEquals(2L, verifiedToken.principal().getId());
+        assertEquals("admin@example.com", verifiedToken.principal().getUsername());
+        assertTrue(verifiedToken.authentication().getAuthorities().stream()
+                .anyMatch(granted -> granted.getAuthority().equals("ROLE_ADMIN")));
+    }
+
+    @Test
+    @DisplayName("ES256 설정 시 kid 헤더와 함께 서명하고 공개키로 검증 가능")
+    void generateTokenDto_ShouldSignWithEs256AndKid_WhenAsymmetricSigningConfigured() throws Exception {
+        // given
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        JwtTokenProperties.SigningProperties signing = new JwtTokenProperties.SigningProperties();
+        signing.setAlgorithm("ES256");
+        signing.setKeyId("edge-1");
+        signing.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        signing.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        when(jwtTokenProperties.getSigning()).thenReturn(signing);
+        jwtTokenProvider.init();
+
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build();
+
+        // when
+        TokenDto tokenDto = jwtTokenProvider.generateTokenDto(new PrincipalDetails(member));
+
+        // then
+        Jws<Claims> jws = Jwts.parserBuilder()
+                .setSigningKey(keyPair.getPublic())
+                .build()
+                .parseClaimsJws(tokenDto.getAccessToken());
+        assertEquals("edge-1", jws.getHeader().getKeyId());
+        assertEquals("ES256", jws.getHeader().getAlgorithm());
+        assertEquals(1L, jwtTokenProvider.verify(tokenDto.getAccessToken()).principal().getId());
+        assertEquals("test@example.com", jwtTokenProvider.parseClaims(tokenDto.getRefreshToken()).getSubject());
+
+        JsonWebKeySet.Document jwks = new JsonWebKeySet(jwtTokenProvider).current();
+        assertTrue(jwks.json().contains("\"kid\":\"edge-1\""));
+        assertTrue(jwks.json().contains("\"crv\":\"P-256\""));
+        assertNotNull(jwks.eTag());
+    }
+
+    @Test
+    @DisplayName("키 교체 후에도 이전 키로 발급된 토큰은 kid로 검증되고 새 토큰은 새 키로 서명")
+    void reloadKeys_ShouldKeepVerifyingTokensSignedWithRetiredKey() {
+        // given
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build();
+        TokenDto before = jwtTokenProvider.generateTokenDto(new PrincipalDetails(member));
+        String beforeKeyId = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(before.getAccessToken()).getHeader().getKeyId();
+
+        // when
+        when(jwtTokenProperties.getSecretKey()).thenReturn(ROTATED_SECRET_KEY);
+        jwtTokenProvider.reloadKeys();
+        TokenDto after = jwtTokenProvider.generateTokenDto(new PrincipalDetails(member));
+
+        // then
+        Key rotatedKey = Keys.hmacShaKeyFor(ROTATED_SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        String afterKeyId = Jwts.parserBuilder().setSigningKey(rotatedKey).build()
+                .parseClaimsJws(after.getAccessToken()).getHeader().getKeyId();
+        assertNotEquals(beforeKeyId, afterKeyId);
+        assertEquals(1L, jwtTokenProvider.verify(before.getAccessToken()).principal().getId());
+        assertEquals(1L, jwtTokenProvider.verify(after.getAccessToken()).principal().getId());
+        assertEquals("test@example.com", jwtTokenProvider.parseClaims(before.getRefreshToken()).getSubject());
+    }
+
+    @Test
+    @DisplayName("ES256 키 교체 후에도 이전 공개키가 retention 동안 JWKS에 게시되고 이전 토큰도 검증")
+    void reloadKeys_ShouldKeepPublishingRetiredAsymmetricKey() throws Exception {
+        // given
+        when(jwtTokenProperties.getSigning()).thenReturn(es256Signing("edge-1"));
+        jwtTokenProvider.init();
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build();
+        TokenDto before = jwtTokenProvider.generateTokenDto(new PrincipalDetails(member));
+
+        // when
+        when(jwtTokenProperties.getSigning()).thenReturn(es256Signing("edge-2"));
+        jwtTokenProvider.reloadKeys();
+        TokenDto after = jwtTokenProvider.generateTokenDto(new PrincipalDetails(member));
+
+        // then
+        assertEquals(1L, jwtTokenProvider.verify(before.getAccessToken()).principal().getId());
+        assertEquals(1L, jwtTokenProvider.verify(after.getAccessToken()).principal().getId());
+        assertEquals("edge-2", jwtTokenProvider.getAsymmetricKeyRing().activeKey().keyId());
+
+        JsonWebKeySet.Document jwks = new JsonWebKeySet(jwtTokenProvider).current();
+        assertTrue(jwks.json().contains("\"kid\":\"edge-1\""));
+        assertTrue(jwks.json().indexOf("\"kid\":\"edge-2\"") < jwks.json().indexOf("\"kid\":\"edge-1\""));
+    }
+
+    @Test
+    @DisplayName("키 링에 없는 kid로 서명된 토큰은 예외를 발생")
+    void verify_ShouldThrowException_WhenKeyIdIsUnknown() {
+        // given
+        Key unknownKey = Keys.hmacShaKeyFor(ROTATED_SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "unknown")
+                .claim("memberId", 1L)
+                .claim("role", "ROLE_USER")
+                .setSubject("test@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(unknownKey)
+                .compact();
+
+        // when & then
+        TokenException exception = assertThrows(TokenException.class, () -> jwtTokenProvider.verify(token));
+        assertEquals(TokenExceptionType.TOKEN_INVALID, exception.getExceptionType());
+    }
+
+    @Test
+    @DisplayName("이전 키를 설정에서 함께 제공하면 재시작 후에도 검증 가능")
+    void init_ShouldAcceptPreviousSecretKeys() {
+        // given
+        HmacKeyRing previousRing = HmacKeyRing.create(SECRET_KEY, List.of(), Map.of("U", "ROLE_USER"));
+        String token = Jwts.builder()
+                .setHeaderParam("kid", previousRing.activeKeyId())
+                .claim("memberId", 1L)
+                .claim("role", "ROLE_USER")
+                .setSubject("test@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(key)
+                .compact();
+        when(jwtTokenProperties.getSecretKey()).thenReturn(ROTATED_SECRET_KEY);
+        when(jwtTokenProperties.getPreviousSecretKeys()).thenReturn(List.of(SECRET_KEY));
+
+        // when
+        jwtTokenProvider.init();
+
+        // then
+        assertEquals(1L, jwtTokenProvider.verify(token).principal().getId());
+    }
+
+    @Test
+    @DisplayName("발급된 토큰에는 회원의 현재 토큰 세대가 포함")
+    void generateTokenDto_ShouldEmbedCurrentGeneration() {
+        // given
+        when(tokenGenerations.current(1L)).thenReturn(3L);
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build();
+
+        // when
+        String token = jwtTokenProvider.generateTokenDto(new PrincipalDetails(member)).getAccessToken();
+
+        // then
+        assertEquals(3, ((Number) jwtTokenProvider.parseClaims(token).get("gen")).longValue());
+        assertEquals(3L, jwtTokenProvider.verify(token).generation());
+    }
+
+    @Test
+    @DisplayName("갱신으로 발급한 access token은 최초 로그인 시각을 그대로 이어받음")
+    void generateAccessToken_ShouldCarryOriginalAuthenticationTime() {
+        // given
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build();
+        PrincipalDetails principal = new PrincipalDetails(member);
+        VerifiedToken original = jwtTokenProvider.verify(jwtTokenProvider.generateTokenDto(principal).getAccessToken());
+
+        // when
+        VerifiedToken renewed = jwtTokenProvider.verify(
+                jwtTokenProvider.generateAccessToken(principal, 0L, original.authenticatedAt()));
+
+        // then
+        assertTrue(original.authenticatedAt() > 0);
+        assertEquals(original.authenticatedAt(), renewed.authenticatedAt());
+    }
+
+    @Test
+    @DisplayName("compact 프로필은 회원 id를 subject로, 짧은 클레임 키와 role 코드로 발급하고 iat와 email을 생략")
+    void generateTokenDto_ShouldUseCompactClaims_WhenCompactProfileConfigured() {
+        // given
+        when(jwtTokenProperties.getClaimProfile()).thenReturn(JwtTokenProperties.ClaimProfile.COMPACT);
+        when(tokenGenerations.current(3_000_000_000L)).thenReturn(2L);
+        Member member = Member.builder()
+                .id(3_000_000_000L)
+                .email("test@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build();
+
+        // when
+        String token = jwtTokenProvider.generateTokenDto(new PrincipalDetails(member)).getAccessToken();
+
+        // then
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        assertEquals("3000000000", claims.getSubject());
+        assertEquals("U", claims.get("r"));
+        assertNull(claims.get("e"));
+        assertNull(claims.getIssuedAt());
+        assertNull(claims.get("memberId"));
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(token);
+        assertEquals(3_000_000_000L, verifiedToken.principal().getId());
+        assertNull(verifiedToken.principal().getUsername());
+        assertEquals(2L, verifiedToken.generation());
+        assertEquals(3_000_000_000L,
+                ((PrincipalDetails) jwtTokenProvider.getAuthentication(token).getPrincipal()).getId());
+    }
+
+    @Test
+    @DisplayName("compact 프로필 access token은 standard보다 짧음")
+    void generateTokenDto_ShouldIssueShorterToken_WhenCompactProfileConfigured() {
+        // given
+        Member member = Member.builder()
+                .id(3_000_000_000L)
+                .email("test@example.com")
+                .password("password")
+                .role(Role.USER)
+                .build();
+        String standard = jwtTokenProvider.generateTokenDto(new PrincipalDetails(member)).getAccessToken();
+        when(jwtTokenProperties.getClaimProfile()).thenReturn(JwtTokenProperties.ClaimProfile.COMPACT);
+
+        // when
+        String compact = jwtTokenProvider.generateTokenDto(new PrincipalDetails(member)).getAccessToken();
+
+        // then
+        assertTrue(compact.length() < standard.length(),
+                "compact " + compact.length() + " bytes, standard " + standard.length() + " bytes");
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 memberId도 jjwt 경로에서 올바르게 읽음")
+    void getAuthentication_ShouldReadMemberIdBeyondIntRange() {
+        // given
+        String token = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .claim("memberId", 3_000_000_000L)
+                .claim("role", "ROLE_USER")
+                .setSubject("test@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(key)
+                .compact();
+
+        // when
+        var auth = jwtTokenProvider.getAuthentication(token);
+
+        // then
+        assertEquals(3_000_000_000L, ((PrincipalDetails) auth.getPrincipal()).getId());
+    }
+
+    private JwtTokenProperties.SigningProperties es256Signing(String keyId) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        JwtTokenProperties.SigningProperties signing = new JwtTokenProperties.SigningProperties();
+        signing.setAlgorithm("ES256");
+        signing.setKeyId(keyId);
+        signing.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        signing.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        return signing;
+    }
 }
@@ -0,0 +1,96 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import cloud.zipbob.edgeservice.global.redis.RedisResilienceProperties;
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+class RevokedTokenRegistryTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StringRedisConnection connection;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private RevokedTokenRegistry revokedTokenRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        revokedTokenRegistry = new RevokedTokenRegistry(stringRedisTemplate,
+                new RedisRoundTrips(stringRedisTemplate, new SimpleMeterRegistry(), new RedisResilienceProperties()),
+                listenerContainer);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("로그아웃한 토큰의 jti는 만료 분 단위 버킷에 기록하고 다른 인스턴스에 전파")
+    void revoke_ShouldStoreTokenIdInExpiryBucketAndPublish() {
+        // given
+        long tokenExpiresAt = System.currentTimeMillis() + 3600000L;
+        long tokenBucket = tokenExpiresAt / 60000 + 1;
+
+        // when
+        revokedTokenRegistry.revoke("token-id", tokenExpiresAt);
+
+        // then
+        assertTrue(revokedTokenRegistry.isRevoked("token-id"));
+        ArgumentCaptor<RedisCallback<Object>> pipeline = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(stringRedisTemplate).executePipelined(pipeline.capture());
+        pipeline.getValue().doInRedis(connection);
+        verify(connection).sAdd("revoked:" + tokenBucket, "token-id");
+        verify(connection).pExpireAt("revoked:" + tokenBucket, tokenBucket * 60000);
+        verify(connection).publish(RevokedTokenRegistry.CHANNEL, "token-id:" + tokenBucket * 60000);
+    }
+
+    @Test
+    @DisplayName("pub/sub 메시지로 받은 폐기 토큰은 로컬에서 차단")
+    void onMessage_ShouldAddRevokedToken() {
+        // given
+        String tokenId = "token-id";
+        long expiresAt = System.currentTimeMillis() + 60000;
+        byte[] body = (tokenId + ":" + expiresAt).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        revokedTokenRegistry.onMessage(new DefaultMessage(RevokedTokenRegistry.CHANNEL.getBytes(), body), null);
+
+        // then
+        assertTrue(revokedTokenRegistry.isRevoked(tokenId));
+        assertFalse(revokedTokenRegistry.isRevoked("other-token-id"));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 폐기 정보는 보관하지 않음")
+    void onMessage_ShouldIgnoreExpiredRevocation() {
+        // given
+        String tokenId = "token-id";
+        long expiresAt = System.currentTimeMillis() - 1000;
+        byte[] body = (tokenId + ":" + expiresAt).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        revokedTokenRegistry.onMessage(new DefaultMessage(RevokedTokenRegistry.CHANNEL.getBytes(), body), null);
+
+        // then
+        assertFalse(revokedTokenRegistry.isRevoked(tokenId));
+    }
+}
@@ -0,0 +1,135 @@
+package cloud.zipbob.edgeservice.auth.jwt;
+
+import cloud.zipbob.edgeservice.global.redis.RedisResilienceProperties;
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import cloud.zipbob.edgeservice.global.redis.RedisUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenGenerationsTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private RedisResilienceProperties redisResilienceProperties;
+    private TokenGenerations tokenGenerations;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        redisResilienceProperties = new RedisResilienceProperties();
+        tokenGenerations = new TokenGenerations(new RedisRoundTrips(stringRedisTemplate, new SimpleMeterRegistry(),
+                redisResilienceProperties), redisResilienceProperties, listenerContainer, new JwtTokenProperties());
+    }
+
+    @Test
+    @DisplayName("현재 세대는 Redis에서 한 번만 읽고 로컬에 보관")
+    void current_ShouldLoadGenerationOnce() {
+        // given
+        when(valueOperations.get("token-gen:1")).thenReturn("2");
+
+        // when
+        long first = tokenGenerations.current(1L);
+        long second = tokenGenerations.current(1L);
+
+        // then
+        assertEquals(2L, first);
+        assertEquals(2L, second);
+        verify(valueOperations, times(1)).get("token-gen:1");
+    }
+
+    @Test
+    @DisplayName("모든 세션 폐기 시 세대를 올려 전파하고 이전 세대 토큰을 거부")
+    void revokeAll_ShouldIncrementGenerationAndPublish() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("token-gen:1")),
+                eq(TokenGenerations.CHANNEL), eq("1"))).thenReturn(1L);
+
+        // when
+        long generation = tokenGenerations.revokeAll(1L);
+
+        // then
+        assertEquals(1L, generation);
+        assertFalse(tokenGenerations.isCurrent(1L, 0L));
+        assertTrue(tokenGenerations.isCurrent(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("역할 변경 시 세대와 refresh token 기록의 role/gen을 한 스크립트에서 함께 변경")
+    void promote_ShouldUpdateGenerationAndRefreshRecordInOneScript() {
+        // given
+        ArgumentCaptor<RedisScript<Long>> script = ArgumentCaptor.forClass(RedisScript.class);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("token-gen:2", "refresh:test@example.com")),
+                eq(TokenGenerations.CHANNEL), eq("2"), eq("ROLE_USER"))).thenReturn(3L);
+
+        // when
+        long generation = tokenGenerations.promote(2L, "refresh:test@example.com", "ROLE_USER");
+
+        // then
+        verify(stringRedisTemplate, times(1)).execute(script.capture(),
+                eq(List.of("token-gen:2", "refresh:test@example.com")), eq(TokenGenerations.CHANNEL), eq("2"),
+                eq("ROLE_USER"));
+        String source = script.getValue().getScriptAsString();
+        assertTrue(source.contains("redis.call('HSET', KEYS[2], 'role', ARGV[3], 'gen', generation)"));
+        assertTrue(source.indexOf("INCR") < source.indexOf("HSET"));
+        assertEquals(3L, generation);
+        assertFalse(tokenGenerations.isCurrent(2L, 2L));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 세대 변경 메시지를 로컬 캐시에 반영")
+    void onMessage_ShouldUpdateLocalGeneration() {
+        // given
+        byte[] body = "1:5".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        tokenGenerations.onMessage(new DefaultMessage(TokenGenerations.CHANNEL.getBytes(), body), null);
+
+        // then
+        assertEquals(5L, tokenGenerations.current(1L));
+    }
+
+    @Test
+    @DisplayName("Redis를 쓸 수 없으면 설정에 따라 세대 확인을 통과시키거나 거부")
+    void current_ShouldFollowFailureMode_WhenRedisIsUnavailable() {
+        // given
+        when(valueOperations.get("token-gen:1")).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertTrue(tokenGenerations.isCurrent(1L, 0L));
+        redisResilienceProperties.getOperations().put(RedisResilienceProperties.TOKEN_GENERATION,
+                RedisResilienceProperties.FailureMode.FAIL_CLOSED);
+        assertThrows(RedisUnavailableException.class, () -> tokenGenerations.isCurrent(1L, 0L));
+    }
+}
@@ -0,0 +1,185 @@
+package cloud.zipbob.edgeservice.domain.member.nickname;
+
+import cloud.zipbob.edgeservice.domain.member.repository.MemberRepository;
+import cloud.zipbob.edgeservice.global.redis.RedisRoundTrips;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NicknameIndexTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RedisRoundTrips redisRoundTrips;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NicknameIndex nicknameIndex;
+
+    @BeforeEach
+    void setUp() {
+        nicknameIndex = new NicknameIndex(memberRepository, redisRoundTrips, listenerContainer,
+                new NicknameIndexProperties(), transactionManager);
+    }
+
+    @Test
+    @DisplayName("색인이 만들어지기 전에는 DB로 확인")
+    void isTaken_ShouldQueryDatabase_BeforeIndexIsBuilt() {
+        // given
+        when(memberRepository.existsByNickname("집밥왕")).thenReturn(true);
+
+        // when & then
+        assertTrue(nicknameIndex.isTaken("집밥왕"));
+    }
+
+    @Test
+    @DisplayName("색인에 있는 닉네임과 색인에 없는 닉네임은 DB 없이 판별")
+    void isTaken_ShouldAnswerFromIndex_WithoutDatabase() {
+        // given
+        when(memberRepository.streamNicknames()).thenReturn(Stream.of("집밥왕", "요리사"));
+        nicknameIndex.rebuild();
+
+        // when & then
+        assertTrue(nicknameIndex.isTaken("집밥왕"));
+        assertFalse(nicknameIndex.isTaken("처음보는닉네임"));
+        verify(memberRepository, never()).existsByNickname(anyString());
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 닉네임이 색인에 있으면 DB로 확인")
+    void isTaken_ShouldQueryDatabase_WhenOnlyCaseVariantIsIndexed() {
+        // given
+        when(memberRepository.streamNicknames()).thenReturn(Stream.of("ZipBob"));
+        when(memberRepository.existsByNickname("zipbob")).thenReturn(true);
+        nicknameIndex.rebuild();
+
+        // when & then
+        assertTrue(nicknameIndex.isTaken("zipbob"));
+        verify(memberRepository, times(1)).existsByNickname("zipbob");
+    }
+
+    @Test
+    @DisplayName("커밋된 변경은 색인에 반영하고 다른 노드에 전파")
+    void onNicknameChanged_ShouldUpdateIndex_AndPublish() {
+        // given
+        when(memberRepository.streamNicknames()).thenReturn(Stream.of("이전닉네임"));
+        nicknameIndex.rebuild();
+
+        // when
+        nicknameIndex.onNicknameChanged(new NicknameChangedEvent("이전닉네임", "새닉네임"));
+
+        // then
+        assertTrue(nicknameIndex.isTaken("새닉네임"));
+        assertFalse(nicknameIndex.isTaken("이전닉네임"));
+        verify(redisRoundTrips, times(1)).call(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 메시지를 받으면 색인에 반영")
+    void onMessage_ShouldApplyRemoteChange() {
+        // given
+        when(memberRepository.streamNicknames()).thenReturn(Stream.empty());
+        nicknameIndex.rebuild();
+
+        // when
+        nicknameIndex.onMessage(new DefaultMessage("nickname-changes".getBytes(StandardCharsets.UTF_8),
+                "other-node\n\n요리사".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertTrue(nicknameIndex.isTaken("요리사"));
+    }
+
+    @Test
+    @DisplayName("추천 닉네임은 대소문자를 무시하고 사용 중인 변형을 제외")
+    void suggest_ShouldSkipTakenVariants_IgnoringCase() {
+        // given
+        when(memberRepository.streamNicknames()).thenReturn(Stream.of("ZipBob", "zipbob1"));
+        nicknameIndex.rebuild();
+
+        // when
+        List<String> suggestions = nicknameIndex.suggest("Zipbob", 2);
+
+        // then
+        assertEquals(List.of("Zipbob2", "Zipbob3"), suggestions);
+        verify(memberRepository, never()).existsByNickname(anyString());
+    }
+
+    @Test
+    @DisplayName("전파를 놓쳐 어긋난 색인은 다시 만들면 DB 기준으로 바로잡힘")
+    void rebuild_ShouldRepairDrift_FromDatabase() {
+        // given
+        when(memberRepository.streamNicknames())
+                .thenReturn(Stream.of("집밥왕", "요리사"), Stream.of("요리사", "새닉네임"));
+        nicknameIndex.rebuild();
+
+        // when
+        nicknameIndex.rebuild();
+
+        // then
+        assertFalse(nicknameIndex.isTaken("집밥왕"));
+        assertTrue(nicknameIndex.isTaken("새닉네임"));
+        verify(memberRepository, never()).existsByNickname(anyString());
+    }
+
+    @Test
+    @DisplayName("다시 만드는 동안 들어온 변경은 새 색인에도 반영")
+    void rebuild_ShouldReplayChanges_ReceivedWhileRebuilding() {
+        // given
+        when(memberRepository.streamNicknames()).thenReturn(Stream.of("이전닉네임"), Stream.of("이전닉네임")
+                .peek(nickname -> nicknameIndex.onMessage(new DefaultMessage(
+                        "nickname-changes".getBytes(StandardCharsets.UTF_8),
+                        "other-node\n이전닉네임\n새닉네임".getBytes(StandardCharsets.UTF_8)), null)));
+        nicknameIndex.rebuild();
+
+        // when
+        nicknameIndex.rebuild();
+
+        // then
+        assertTrue(nicknameIndex.isTaken("새닉네임"));
+        assertFalse(nicknameIndex.isTaken("이전닉네임"));
+    }
+
+    @Test
+    @DisplayName("다시 만들기에 실패하면 기존 색인을 유지")
+    void rebuild_ShouldKeepPreviousIndex_WhenLoadFails() {
+        // given
+        when(memberRepository.streamNicknames())
+                .thenReturn(Stream.of("집밥왕"))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        nicknameIndex.rebuild();
+
+        // when
+        nicknameIndex.rebuild();
+
+        // then
+        assertTrue(nicknameIndex.isTaken("집밥왕"));
+        verify(memberRepository, never()).existsByNickname(anyString());
+    }
+}
@@ -0,0 +1,95 @@
+package cloud.zipbob.edgeservice.domain.member.nickname;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NicknameTrieTest {
+
+    private final NicknameTrie trie = new NicknameTrie();
+
+    @Test
+    @DisplayName("공통 접두사를 나눠 저장해도 각 닉네임을 정확히 찾음")
+    void contains_ShouldMatchExactWords_AfterEdgeSplit() {
+        // given
+        trie.add("zipbob");
+        trie.add("zipper");
+        trie.add("zip");
+
+        // when & then
+        assertTrue(trie.contains("zipbob"));
+        assertTrue(trie.contains("zipper"));
+        assertTrue(trie.contains("zip"));
+        assertFalse(trie.contains("zi"));
+        assertFalse(trie.contains("zipb"));
+    }
+
+    @Test
+    @DisplayName("삭제 후 남은 닉네임은 유지되고 삭제된 닉네임만 사라짐")
+    void remove_ShouldKeepSiblings_WhenMergingEdges() {
+        // given
+        trie.add("zipbob");
+        trie.add("zipbob1");
+        trie.add("zipper");
+
+        // when
+        trie.remove("zipbob");
+        trie.remove("zipper");
+
+        // then
+        assertFalse(trie.contains("zipbob"));
+        assertFalse(trie.contains("zipper"));
+        assertTrue(trie.contains("zipbob1"));
+    }
+
+    @Test
+    @DisplayName("사용 중인 변형을 건너뛰고 비어 있는 후보를 순서대로 추천")
+    void suggest_ShouldSkipTakenVariants() {
+        // given
+        trie.add("zipbob");
+        trie.add("zipbob1");
+        trie.add("zipbob3");
+
+        // when
+        List<String> suggestions = trie.suggest("zipbob", 3, 100);
+
+        // then
+        assertEquals(List.of("zipbob2", "zipbob4", "zipbob5"), suggestions);
+    }
+
+    @Test
+    @DisplayName("간선 중간에서 끝나는 접두사도 추천")
+    void suggest_ShouldHandlePrefixEndingInsideEdge() {
+        // given
+        trie.add("zipbob1");
+
+        // when
+        List<String> suggestions = trie.suggest("zipbo", 2, 100);
+
+        // then
+        assertEquals(List.of("zipbo", "zipbo1"), suggestions);
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 닉네임은 표기별로 구분하고 같은 닉네임을 여러 번 넣어도 한 번만 저장")
+    void contains_ShouldKeepCaseVariants_AndIgnoreDuplicateAdds() {
+        // given
+        trie.add("ZipBob");
+        trie.add("zipbob");
+        trie.add("zipbob");
+
+        // when
+        trie.remove("zipbob");
+
+        // then
+        assertFalse(trie.contains("zipbob"));
+        assertTrue(trie.contains("ZipBob"));
+        assertTrue(trie.containsIgnoreCase("ZIPBOB"));
+        assertEquals(List.of("ZIPBOB1"), trie.suggest("ZIPBOB", 1, 100));
+    }
+}
@@ -0,0 +1,137 @@
+package cloud.zipbob.edgeservice.domain.member.repository;
+
+import cloud.zipbob.edgeservice.domain.member.Member;
+import cloud.zipbob.edgeservice.domain.member.Role;
+import cloud.zipbob.edgeservice.domain.member.response.MyInfoResponse;
+import cloud.zipbob.edgeservice.oauth2.SocialType;
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.management.ManagementFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.config.name=member-repository-test",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class MemberRepositoryTest {
+    private static final String EMAIL = "test@example.com";
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariaDb = new MariaDBContainer<>("mariadb:11.4");
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(Member.builder()
+                .email(EMAIL)
+                .password("encoded-password")
+                .nickname("TestNickname")
+                .role(Role.USER)
+                .socialType(SocialType.GOOGLE)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("내 정보 조회는 쿼리 한 번으로 엔티티를 적재하지 않고 DTO를 반환")
+    void findMyInfoByEmail_ShouldNotLoadEntity() {
+        // when
+        MyInfoResponse response = memberRepository.findMyInfoByEmail(EMAIL).orElseThrow();
+
+        // then
+        assertEquals("TestNickname", response.getNickname());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("인증용 조회와 존재 여부 확인은 엔티티를 적재하지 않음")
+    void authViewAndExistsQueries_ShouldNotLoadEntity() {
+        // when
+        MemberAuthView view = memberRepository.findAuthViewByEmail(EMAIL).orElseThrow();
+        boolean emailExists = memberRepository.existsByEmail(EMAIL);
+        boolean nicknameExists = memberRepository.existsByNickname("TestNickname");
+
+        // then
+        assertEquals(Role.USER, view.role());
+        assertTrue(emailExists);
+        assertTrue(nicknameExists);
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("projection 조회는 변경된 엔티티가 있어도 flush하지 않음")
+    void findMyInfoByEmail_ShouldNotFlush_WithManualFlushMode() {
+        // given
+        Member member = memberRepository.findByEmail(EMAIL).orElseThrow();
+        member.updateNickname("ChangedNickname");
+        statistics.clear();
+
+        // when
+        memberRepository.findMyInfoByEmail(EMAIL);
+
+        // then
+        assertEquals(0, statistics.getFlushCount());
+    }
+
+    @Test
+    @DisplayName("projection 조회는 엔티티 조회보다 메모리를 적게 할당")
+    void findMyInfoByEmail_ShouldAllocateLessThanEntityLookup() {
+        // when
+        long entityBytes = allocatedBytes(() -> MyInfoResponse.of(memberRepository.findByEmail(EMAIL).orElseThrow()));
+        long projectionBytes = allocatedBytes(() -> memberRepository.findMyInfoByEmail(EMAIL).orElseThrow());
+
+        // then
+        assertTrue(projectionBytes < entityBytes,
+                "projection " + projectionBytes + " bytes, entity " + entityBytes + " bytes");
+    }
+
+    private long allocatedBytes(Runnable lookup) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) {
+            lookup.run();
+            entityManager.clear();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            lookup.run();
+            entityManager.clear();
+        }
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+}
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,6 +15,8 @@ import cloud.zipbob.edgeservice.domain.member.Member;
 import cloud.zipbob.edgeservice.domain.member.Role;
 import cloud.zipbob.edgeservice.domain.member.exception.MemberException;
 import cloud.zipbob.edgeservice.domain.member.exception.MemberExceptionType;
+import cloud.zipbob.edgeservice.domain.member.nickname.NicknameChangedEvent;
+import cloud.zipbob.edgeservice.domain.member.nickname.NicknameIndex;
 import cloud.zipbob.edgeservice.domain.member.repository.MemberRepository;
 import cloud.zipbob.edgeservice.domain.member.request.MemberUpdateRequest;
 import cloud.zipbob.edgeservice.domain.member.request.MemberWithdrawRequest;
@@ -22,6 +26,7 @@ import cloud.zipbob.edgeservice.domain.member.response.MemberWithdrawResponse;
 import cloud.zipbob.edgeservice.domain.member.response.MyInfoResponse;
 import cloud.zipbob.edgeservice.domain.member.response.OAuth2JoinResponse;
 import cloud.zipbob.edgeservice.oauth2.SocialType;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,6 +35,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -39,6 +45,12 @@ class MemberServiceImplTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private NicknameIndex nicknameIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MemberServiceImpl memberService;
 
@@ -48,6 +60,7 @@ class MemberServiceImplTest {
     void setUp() {
         PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
         member = Member.builder()
+                .id(1L)
                 .email("test@example.com")
                 .password(passwordEncoder.encode("password"))
                 .nickname("TestNickname")
@@ -65,7 +78,7 @@ class MemberServiceImplTest {
         MemberUpdateRequest request = new MemberUpdateRequest("NewNickname");
 
         when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(member));
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.empty());
+        when(memberRepository.existsByNickname(anyString())).thenReturn(false);
 
         // when
         MemberUpdateResponse response = memberService.update(request, email);
@@ -73,27 +86,19 @@ class MemberServiceImplTest {
         // then
         assertEquals("NewNickname", response.getNewNickname());
         verify(memberRepository, times(1)).findByEmail(anyString());
-        verify(memberRepository, times(1)).findByNickname(anyString());
+        verify(memberRepository, times(1)).existsByNickname(anyString());
+        verify(eventPublisher, times(1)).publishEvent(new NicknameChangedEvent("TestNickname", "NewNickname"));
     }
 
     @Test
     @DisplayName("닉네임이 이미 존재할 경우 예외를 발생")
     void update_ShouldThrowException_WhenNicknameAlreadyExists() {
         // given
-        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
         String email = "test@example.com";
         MemberUpdateRequest request = new MemberUpdateRequest("ExistingNickname");
 
-        Member existingMember = Member.builder()
-                .email("existing@example.com")
-                .password(passwordEncoder.encode("password"))
-                .nickname("ExistingNickname")
-                .role(Role.USER)
-                .socialType(SocialType.KAKAO)
-                .build();
-
         when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(member));
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.of(existingMember));
+        when(memberRepository.existsByNickname(anyString())).thenReturn(true);
 
         // when & then
         MemberException exception = assertThrows(MemberException.class,
@@ -101,7 +106,7 @@ class MemberServiceImplTest {
 
         assertEquals(MemberExceptionType.ALREADY_EXIST_NICKNAME, exception.getExceptionType());
         verify(memberRepository, times(1)).findByEmail(anyString());
-        verify(memberRepository, times(1)).findByNickname(anyString());
+        verify(memberRepository, times(1)).existsByNickname(anyString());
     }
 
     @Test
@@ -120,6 +125,8 @@ class MemberServiceImplTest {
         assertEquals(email, response.getEmail());
         verify(memberRepository, times(1)).findByEmail(anyString());
         verify(memberRepository, times(1)).delete(member);
+        verify(eventPublisher, times(1)).publishEvent(new NicknameChangedEvent("TestNickname", null));
+        verify(eventPublisher, times(1)).publishEvent(new MemberWithdrawnEvent(1L, email));
     }
 
     @Test
@@ -138,6 +145,7 @@ class MemberServiceImplTest {
         assertEquals(MemberExceptionType.NOT_MATCH_NICKNAME, exception.getExceptionType());
         verify(memberRepository, times(1)).findByEmail(anyString());
         verify(memberRepository, times(0)).delete(member);
+        verify(eventPublisher, times(0)).publishEvent(new MemberWithdrawnEvent(1L, email));
     }
 
     @Test
@@ -146,7 +154,7 @@ class MemberServiceImplTest {
         // given
         String email = "test@example.com";
 
-        when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(member));
+        when(memberRepository.findMyInfoByEmail(anyString())).thenReturn(Optional.of(MyInfoResponse.of(member)));
 
         // when
         MyInfoResponse response = memberService.getMyInfo(email);
@@ -154,7 +162,7 @@ class MemberServiceImplTest {
         // then
         assertEquals(member.getEmail(), response.getEmail());
         assertEquals(member.getNickname(), response.getNickname());
-        verify(memberRepository, times(1)).findByEmail(anyString());
+        verify(memberRepository, times(1)).findMyInfoByEmail(anyString());
     }
 
     @Test
@@ -163,38 +171,59 @@ class MemberServiceImplTest {
         // given
         String email = "nonexistent@example.com";
 
-        when(memberRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(memberRepository.findMyInfoByEmail(anyString())).thenReturn(Optional.empty());
 
         // when & then
         MemberException exception = assertThrows(MemberException.class,
                 () -> memberService.getMyInfo(email));
 
         assertEquals(MemberExceptionType.MEMBER_NOT_FOUND, exception.getExceptionType());
-        verify(memberRepository, times(1)).findByEmail(anyString());
+        verify(memberRepository, times(1)).findMyInfoByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("추천 개수는 최대 개수로 제한하여 색인에 요청")
+    void suggestNicknames_ShouldClampSize() {
+        // given
+        when(nicknameIndex.suggest("zipbob", 20)).thenReturn(List.of("zipbob1"));
+
+        // when
+        List<String> result = memberService.suggestNicknames("zipbob", 10_000);
+
+        // then
+        assertEquals(List.of("zipbob1"), result);
+        verify(nicknameIndex, times(1)).suggest("zipbob", 20);
+    }
+
+    @Test
+    @DisplayName("접두어가 비어 있거나 너무 길면 예외를 발생")
+    void suggestNicknames_ShouldThrowException_WhenPrefixIsInvalid() {
+        // when
+        MemberException blank = assertThrows(MemberException.class,
+                () -> memberService.suggestNicknames(" ", 5));
+        MemberException tooLong = assertThrows(MemberException.class,
+                () -> memberService.suggestNicknames("a".repeat(21), 5));
+
+        // then
+        assertEquals(MemberExceptionType.INVALID_NICKNAME_PREFIX, blank.getExceptionType());
+        assertEquals(MemberExceptionType.INVALID_NICKNAME_PREFIX, tooLong.getExceptionType());
+        verify(nicknameIndex, never()).suggest(anyString(), anyInt());
     }
 
     @Test
     @DisplayName("닉네임이 존재할 경우 true를 반환")
     void checkNickname_ShouldReturnTrue_WhenNicknameExists() {
         // given
-        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
         String nickname = "ExistingNickname";
-        Member existingMember = Member.builder()
-                .email("existing@example.com")
-                .password(passwordEncoder.encode("password"))
-                .nickname(nickname)
-                .role(Role.USER)
-                .socialType(SocialType.KAKAO)
-                .build();
 
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.of(existingMember));
+        when(nicknameIndex.isTaken(anyString())).thenReturn(true);
 
         // when
         boolean result = memberService.checkNickname(nickname);
 
         // then
         assertTrue(result);
-        verify(memberRepository, times(1)).findByNickname(anyString());
+        verify(nicknameIndex, times(1)).isTaken(anyString());
     }
 
     @Test
@@ -203,14 +232,14 @@ class MemberServiceImplTest {
         // given
         String nickname = "NonExistentNickname";
 
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.empty());
+        when(nicknameIndex.isTaken(anyString())).thenReturn(false);
 
         // when
         boolean result = memberService.checkNickname(nickname);
 
         // then
         assertFalse(result);
-        verify(memberRepository, times(1)).findByNickname(anyString());
+        verify(nicknameIndex, times(1)).isTaken(anyString());
     }
 
     @Test
@@ -219,6 +248,7 @@ class MemberServiceImplTest {
         // given
         String email = "test@example.com";
         Member guestMember = Member.builder()
+                .id(2L)
                 .email(email)
                 .nickname(null) // Assuming nickname is null initially
                 .role(Role.GUEST)
@@ -227,7 +257,7 @@ class MemberServiceImplTest {
         OAuth2JoinRequest request = new OAuth2JoinRequest("NewNickname");
 
         when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(guestMember));
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.empty());
+        when(memberRepository.existsByNickname(anyString())).thenReturn(false);
 
         // when
         OAuth2JoinResponse response = memberService.oauth2Join(request, email);
@@ -237,6 +267,8 @@ class MemberServiceImplTest {
         assertEquals(Role.USER, guestMember.getRole());
         assertEquals(Role.USER, response.getRole());
         verify(memberRepository, times(1)).findByEmail(anyString());
-        verify(memberRepository, times(1)).findByNickname(anyString());
+        verify(memberRepository, times(1)).existsByNickname(anyString());
+        verify(eventPublisher, times(1)).publishEvent(new NicknameChangedEvent(null, "NewNickname"));
+        verify(eventPublisher, times(1)).publishEvent(new MemberPromotedEvent(2L, email, Role.USER.getKey()));
     }
 }
@@ -0,0 +1,190 @@
+package cloud.zipbob.edgeservice.domain.member.service;
+
+import cloud.zipbob.edgeservice.auth.RefreshTokenStore;
+import cloud.zipbob.edgeservice.auth.jwt.TokenGenerations;
+import cloud.zipbob.edgeservice.global.redis.RedisService;
+import cloud.zipbob.edgeservice.global.redis.RedisUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class MemberSessionListenerTest {
+
+    private final TokenGenerations tokenGenerations = mock(TokenGenerations.class);
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    private final RedisService redisService = mock(RedisService.class);
+    private final ScheduledExecutorService retryScheduler = mock(ScheduledExecutorService.class);
+    private SimpleMeterRegistry meterRegistry;
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(retryScheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(0).run();
+                    return null;
+                });
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(TransactionalEventListenerFactory.class);
+        context.registerBean(MemberSessionListener.class,
+                () -> new MemberSessionListener(tokenGenerations, refreshTokenStore, redisService,
+                        meterRegistry, retryScheduler));
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("커밋되면 토큰 세대를 올리고 refresh token 기록의 역할을 변경")
+    void onMemberPromoted_ShouldUpdateSessions_AfterCommit() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(new StubTransactionManager(false));
+
+        // when
+        transaction.executeWithoutResult(status ->
+                context.publishEvent(new MemberPromotedEvent(2L, "test@example.com", "ROLE_USER")));
+
+        // then
+        verify(tokenGenerations).promote(2L, "refresh:test@example.com", "ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("저장이 실패해 롤백되면 Redis 세션을 건드리지 않음")
+    void onMemberPromoted_ShouldNotTouchRedis_WhenCommitFails() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(new StubTransactionManager(true));
+
+        // when
+        assertThrows(DataIntegrityViolationException.class, () -> transaction.executeWithoutResult(status ->
+                context.publishEvent(new MemberPromotedEvent(2L, "test@example.com", "ROLE_USER"))));
+
+        // then
+        verifyNoInteractions(tokenGenerations, refreshTokenStore);
+    }
+
+    @Test
+    @DisplayName("탈퇴가 롤백되면 세션을 끊지 않음")
+    void onMemberWithdrawn_ShouldKeepSessions_WhenCommitFails() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(new StubTransactionManager(true));
+
+        // when
+        assertThrows(DataIntegrityViolationException.class, () -> transaction.executeWithoutResult(status ->
+                context.publishEvent(new MemberWithdrawnEvent(1L, "test@example.com"))));
+
+        // then
+        verifyNoInteractions(tokenGenerations, refreshTokenStore, redisService);
+    }
+
+    @Test
+    @DisplayName("탈퇴가 커밋되면 토큰 세대를 올리고 refresh token을 삭제")
+    void onMemberWithdrawn_ShouldRevokeSessions_AfterCommit() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(new StubTransactionManager(false));
+
+        // when
+        transaction.executeWithoutResult(status ->
+                context.publishEvent(new MemberWithdrawnEvent(1L, "test@example.com")));
+
+        // then
+        verify(tokenGenerations).revokeAll(1L);
+        verify(refreshTokenStore).delete("test@example.com");
+        verify(redisService).deleteValues("test@example.com");
+    }
+
+    @Test
+    @DisplayName("커밋 후 Redis 정리가 실패하면 다시 시도하고 호출자에게 예외를 던지지 않음")
+    void onMemberWithdrawn_ShouldRetry_WhenRedisFails() {
+        // given
+        when(tokenGenerations.revokeAll(1L))
+                .thenThrow(new RedisUnavailableException("down"))
+                .thenReturn(2L);
+        TransactionTemplate transaction = new TransactionTemplate(new StubTransactionManager(false));
+
+        // when
+        transaction.executeWithoutResult(status ->
+                context.publishEvent(new MemberWithdrawnEvent(1L, "test@example.com")));
+
+        // then
+        verify(tokenGenerations, times(2)).revokeAll(1L);
+        verify(refreshTokenStore).delete("test@example.com");
+        verify(redisService).deleteValues("test@example.com");
+        assertEquals(1.0, meterRegistry.counter("member.session.sync", "result", "retry").count());
+        assertEquals(0.0, meterRegistry.counter("member.session.sync", "result", "failure").count());
+    }
+
+    @Test
+    @DisplayName("다시 시도해도 Redis 정리가 실패하면 실패 지표를 올리고 멈춤")
+    void onMemberPromoted_ShouldCountFailure_WhenRetriesAreExhausted() {
+        // given
+        when(tokenGenerations.promote(2L, "refresh:test@example.com", "ROLE_USER"))
+                .thenThrow(new RedisUnavailableException("down"));
+        TransactionTemplate transaction = new TransactionTemplate(new StubTransactionManager(false));
+
+        // when
+        transaction.executeWithoutResult(status ->
+                context.publishEvent(new MemberPromotedEvent(2L, "test@example.com", "ROLE_USER")));
+
+        // then
+        verify(tokenGenerations, times(MemberSessionListener.MAX_ATTEMPTS))
+                .promote(2L, "refresh:test@example.com", "ROLE_USER");
+        assertEquals(MemberSessionListener.MAX_ATTEMPTS - 1,
+                meterRegistry.counter("member.session.sync", "result", "retry").count());
+        assertEquals(1.0, meterRegistry.counter("member.session.sync", "result", "failure").count());
+    }
+
+    private static final class StubTransactionManager extends AbstractPlatformTransactionManager {
+        private final boolean failOnCommit;
+
+        private StubTransactionManager(boolean failOnCommit) {
+            this.failOnCommit = failOnCommit;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (failOnCommit) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'nickname'");
+            }
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
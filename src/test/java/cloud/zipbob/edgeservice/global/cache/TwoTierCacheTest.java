@@ -0,0 +1,235 @@
+package cloud.zipbob.edgeservice.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import cloud.zipbob.edgeservice.global.redis.codec.ExpiringValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoTierCacheTest {
+
+    private final Cache redis = mock(Cache.class);
+    private final CacheLoadCoordinator coordinator = mock(CacheLoadCoordinator.class);
+    private final TwoTierCacheProperties.TierProperties tier =
+            new TwoTierCacheProperties.TierProperties(Duration.ofMinutes(1), 100, Duration.ofHours(1));
+    private final List<String> published = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TwoTierCache("memberInfoCache", tier, redis, coordinator, published::add, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Redis에서 읽은 값은 로컬에 보관되어 다음 조회는 Redis를 거치지 않음")
+    void get_ShouldServeFromLocal_AfterRedisHit() {
+        // given
+        when(redis.get("test@example.com")).thenReturn(new SimpleValueWrapper("info"));
+
+        // when
+        cache.get("test@example.com");
+        Cache.ValueWrapper second = cache.get("test@example.com");
+
+        // then
+        assertEquals("info", second.get());
+        verify(redis, times(1)).get("test@example.com");
+        assertEquals(1.0, meterRegistry.counter("cache.tier.requests",
+                "cache", "memberInfoCache", "tier", "local", "result", "hit").count());
+    }
+
+    @Test
+    @DisplayName("삭제하면 Redis와 로컬을 모두 지우고 다른 노드에 무효화를 알림")
+    void evict_ShouldClearBothTiers_AndPublish() {
+        // given
+        when(redis.get("test@example.com")).thenReturn(new SimpleValueWrapper("info"), (Cache.ValueWrapper) null);
+        cache.get("test@example.com");
+
+        // when
+        cache.evict("test@example.com");
+
+        // then
+        verify(redis).evict("test@example.com");
+        assertEquals(List.of("test@example.com"), published);
+        assertNull(cache.get("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 값만 지움")
+    void invalidateLocal_ShouldDropLocalEntry() {
+        // given
+        when(redis.get("test@example.com")).thenReturn(new SimpleValueWrapper("info"));
+        cache.get("test@example.com");
+
+        // when
+        cache.invalidateLocal("test@example.com");
+        cache.get("test@example.com");
+
+        // then
+        verify(redis, times(2)).get("test@example.com");
+        assertEquals(List.of(), published);
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 조회하면 로더는 한 번만 실행")
+    void get_ShouldLoadOnce_WhenConcurrentMisses() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> cache.get("test@example.com", () -> {
+                loads.incrementAndGet();
+                release.await(1, TimeUnit.SECONDS);
+                return "info";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("info", result.get(1, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, loads.get());
+        verify(redis).put(eq("test@example.com"), storedValue("info"));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 lock을 잡고 있으면 원본 대신 Redis에 적재된 값을 사용")
+    void get_ShouldWaitForOtherNode_WhenLockIsHeld() {
+        // given
+        tier.setDistributedLock(true);
+        when(redis.get("test@example.com")).thenReturn(null, new SimpleValueWrapper("info"));
+        when(coordinator.tryLock(eq("memberInfoCache:test@example.com"), any())).thenReturn(null);
+        when(coordinator.await(any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+
+        // when
+        String value = cache.get("test@example.com", () -> "loaded");
+
+        // then
+        assertEquals("info", value);
+        verify(redis, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("만료가 임박한 값을 읽으면 백그라운드에서 미리 다시 적재")
+    void get_ShouldRefreshAhead_WhenEntryIsAboutToExpire() {
+        // given
+        when(redis.get("test@example.com"))
+                .thenReturn(new SimpleValueWrapper(new ExpiringValue("old", System.currentTimeMillis())));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(coordinator).refreshAsync(any());
+        cache.get("test@example.com", () -> "new");
+
+        // when
+        String stale = cache.get("test@example.com", () -> "new");
+        String refreshed = cache.get("test@example.com", () -> "new");
+
+        // then
+        assertEquals("old", stale);
+        assertEquals("new", refreshed);
+        verify(redis).put(eq("test@example.com"), storedValue("new"));
+    }
+
+    @Test
+    @DisplayName("갱신 적재 중에 삭제되면 갱신 값을 Redis와 로컬에 쓰지 않음")
+    void get_ShouldDiscardRefresh_WhenEvictedWhileLoading() {
+        // given
+        when(redis.get("test@example.com")).thenReturn(
+                new SimpleValueWrapper(new ExpiringValue("old", System.currentTimeMillis())),
+                (Cache.ValueWrapper) null);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(coordinator).refreshAsync(any());
+        cache.get("test@example.com", () -> "new");
+
+        // when
+        cache.get("test@example.com", () -> {
+            cache.evict("test@example.com");
+            return "stale";
+        });
+
+        // then
+        verify(redis, never()).put(eq("test@example.com"), storedValue("stale"));
+        assertNull(cache.get("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("갱신 값을 쓰는 도중 삭제가 끼어들면 쓴 값을 되돌림")
+    void get_ShouldRollBackRefresh_WhenEvictedWhileWriting() {
+        // given
+        when(redis.get("test@example.com")).thenReturn(
+                new SimpleValueWrapper(new ExpiringValue("old", System.currentTimeMillis())),
+                (Cache.ValueWrapper) null);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(coordinator).refreshAsync(any());
+        doAnswer(invocation -> {
+            cache.evict("test@example.com");
+            return null;
+        }).when(redis).put(eq("test@example.com"), storedValue("stale"));
+        cache.get("test@example.com", () -> "new");
+
+        // when
+        cache.get("test@example.com", () -> "stale");
+
+        // then
+        verify(redis, times(2)).evict("test@example.com");
+        assertNull(cache.get("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("값을 쓰면 만료 시각을 함께 저장해 다른 노드가 TTL을 따로 묻지 않아도 됨")
+    void put_ShouldStoreExpiryAlongsideValue() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        cache.put("test@example.com", "info");
+
+        // then
+        verify(redis).put(eq("test@example.com"), argThat(stored -> stored instanceof ExpiringValue expiring
+                && "info".equals(expiring.value())
+                && expiring.expiresAt() >= before + tier.getRedisTtl().toMillis()));
+        assertEquals("info", cache.get("test@example.com").get());
+    }
+
+    private static Object storedValue(Object value) {
+        return argThat(stored -> stored instanceof ExpiringValue expiring && value.equals(expiring.value()));
+    }
+}
@@ -0,0 +1,113 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HybridRateLimiterTest {
+
+    private static final RateLimitClass MEMBER =
+            new RateLimitClass(RateLimitProperties.MEMBER, 100, 100, Duration.ofSeconds(1));
+    private static final RateLimitClass ANONYMOUS =
+            new RateLimitClass(RateLimitProperties.ANONYMOUS, 50, 50, Duration.ofSeconds(1));
+
+    @Mock
+    private RedisRateLimiterService redisRateLimiterService;
+
+    private RateLimitProperties rateLimitProperties;
+    private HybridRateLimiter hybridRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.getHybrid().setEnabled(true);
+        rateLimitProperties.getHybrid().setLeaseSize(4);
+        hybridRateLimiter = new HybridRateLimiter(redisRateLimiterService, rateLimitProperties);
+    }
+
+    @Test
+    @DisplayName("Redis에서 가져온 lease 안에서는 로컬에서 판정")
+    void tryAcquire_ShouldDecideLocally_WithinLease() {
+        // given
+        when(redisRateLimiterService.acquire(MEMBER, "1", 4))
+                .thenReturn(new RateLimitGrant(4, 100, 90, 1, 0));
+
+        // when
+        RateLimitDecision first = hybridRateLimiter.tryAcquire(MEMBER, "1");
+        RateLimitDecision second = hybridRateLimiter.tryAcquire(MEMBER, "1");
+        RateLimitDecision third = hybridRateLimiter.tryAcquire(MEMBER, "1");
+        RateLimitDecision fourth = hybridRateLimiter.tryAcquire(MEMBER, "1");
+
+        // then
+        assertTrue(first.allowed() && second.allowed() && third.allowed() && fourth.allowed());
+        assertEquals(90, fourth.remaining());
+        verify(redisRateLimiterService, times(1)).acquire(MEMBER, "1", 4);
+    }
+
+    @Test
+    @DisplayName("전역 quota가 바닥나면 거부")
+    void tryAcquire_ShouldReject_WhenGlobalQuotaIsExhausted() {
+        // given
+        when(redisRateLimiterService.acquire(ANONYMOUS, "127.0.0.1", 4))
+                .thenReturn(new RateLimitGrant(0, 50, 0, 1, 1));
+
+        // when
+        RateLimitDecision decision = hybridRateLimiter.tryAcquire(ANONYMOUS, "127.0.0.1");
+
+        // then
+        assertFalse(decision.allowed());
+        assertEquals(1, decision.retryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("절반 이하로 줄어든 lease는 주기적으로 한 번에 채움")
+    void refillPending_ShouldTopUpLowLeasesInOneBatch() {
+        // given
+        when(redisRateLimiterService.acquire(MEMBER, "1", 4))
+                .thenReturn(new RateLimitGrant(4, 100, 90, 1, 0));
+        when(redisRateLimiterService.acquireAll(anyList()))
+                .thenReturn(List.of(new RateLimitGrant(4, 100, 86, 1, 0)));
+        hybridRateLimiter.tryAcquire(MEMBER, "1");
+        hybridRateLimiter.tryAcquire(MEMBER, "1");
+
+        // when
+        hybridRateLimiter.refillPending();
+        for (int i = 0; i < 6; i++) {
+            assertTrue(hybridRateLimiter.tryAcquire(MEMBER, "1").allowed());
+        }
+
+        // then
+        verify(redisRateLimiterService, times(1)).acquire(MEMBER, "1", 4);
+        verify(redisRateLimiterService, times(1)).acquireAll(List.of(
+                new RedisRateLimiterService.LeaseRequest(MEMBER, "1", 4)));
+    }
+
+    @Test
+    @DisplayName("hybrid 모드가 꺼져 있으면 매 요청을 Redis에서 판정")
+    void tryAcquire_ShouldDelegateToRedis_WhenHybridDisabled() {
+        // given
+        rateLimitProperties.getHybrid().setEnabled(false);
+        RateLimitDecision redisDecision = new RateLimitDecision(true, 100, 99, 1, 0);
+        when(redisRateLimiterService.tryAcquire(MEMBER, "1")).thenReturn(redisDecision);
+
+        // when
+        RateLimitDecision decision = hybridRateLimiter.tryAcquire(MEMBER, "1");
+
+        // then
+        assertEquals(redisDecision, decision);
+    }
+}
@@ -0,0 +1,134 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateLimitPolicyTableTest {
+
+    private static final RateLimitClass RECIPE = new RateLimitClass("recipe", 10, 10, Duration.ofSeconds(1));
+
+    private RateLimitProperties rateLimitProperties;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.getClasses().put("recipe", new RateLimitProperties.BucketProperties(
+                10, 10, Duration.ofSeconds(1)));
+        rateLimitProperties.getPolicies().add(policy("/recipes/**", List.of("USER"), "recipe"));
+    }
+
+    @Test
+    @DisplayName("경로와 역할이 모두 일치하는 첫 정책의 등급을 반환")
+    void resolve_ShouldReturnKeyClassOfMatchingPolicy() {
+        // given
+        RateLimitPolicyTable table = new RateLimitPolicyTable(rateLimitProperties);
+
+        // when & then
+        assertEquals(RECIPE, table.resolve("/recipes/1", "ROLE_USER", RateLimitProperties.MEMBER));
+        assertEquals(RateLimitProperties.MEMBER,
+                table.resolve("/recipes/1", "ROLE_GUEST", RateLimitProperties.MEMBER).name());
+        assertEquals(RateLimitProperties.MEMBER,
+                table.resolve("/members/me", "ROLE_USER", RateLimitProperties.MEMBER).name());
+    }
+
+    @Test
+    @DisplayName("설정이 갱신되면 정책 표를 새로 만들어 교체")
+    void reload_ShouldReplaceTable() {
+        // given
+        RateLimitPolicyTable table = new RateLimitPolicyTable(rateLimitProperties);
+        rateLimitProperties.setPolicies(List.of(policy("/members/**", List.of(), "recipe")));
+
+        // when
+        table.reload();
+
+        // then
+        assertEquals(RateLimitProperties.MEMBER,
+                table.resolve("/recipes/1", "ROLE_USER", RateLimitProperties.MEMBER).name());
+        assertEquals(RECIPE, table.resolve("/members/me", RateLimitPolicyTable.ANONYMOUS_ROLE,
+                RateLimitProperties.ANONYMOUS));
+    }
+
+    @Test
+    @DisplayName("갱신된 정책이 잘못되었으면 이전 표를 유지")
+    void reload_ShouldKeepPreviousTable_WhenPoliciesAreInvalid() {
+        // given
+        RateLimitPolicyTable table = new RateLimitPolicyTable(rateLimitProperties);
+        rateLimitProperties.setPolicies(List.of(policy("/members/**", List.of(), "unknown")));
+
+        // when
+        table.reload();
+
+        // then
+        assertEquals(RECIPE, table.resolve("/recipes/1", "ROLE_USER", RateLimitProperties.MEMBER));
+    }
+
+    @Test
+    @DisplayName("정책이 참조하는 등급이 갱신으로 사라지면 이전 표와 bucket 설정을 유지")
+    void reload_ShouldKeepPreviousTable_WhenReferencedClassIsRemoved() {
+        // given
+        RateLimitPolicyTable table = new RateLimitPolicyTable(rateLimitProperties);
+        rateLimitProperties.getClasses().remove("recipe");
+
+        // when
+        table.reload();
+
+        // then
+        assertEquals(RECIPE, table.resolve("/recipes/1", "ROLE_USER", RateLimitProperties.MEMBER));
+    }
+
+    @Test
+    @DisplayName("기본 등급이 갱신으로 사라지면 이전 표를 유지")
+    void reload_ShouldKeepPreviousTable_WhenDefaultClassIsRemoved() {
+        // given
+        RateLimitPolicyTable table = new RateLimitPolicyTable(rateLimitProperties);
+        RateLimitClass anonymous = table.resolve("/members/me", RateLimitPolicyTable.ANONYMOUS_ROLE,
+                RateLimitProperties.ANONYMOUS);
+        rateLimitProperties.getClasses().remove(RateLimitProperties.ANONYMOUS);
+
+        // when
+        table.reload();
+
+        // then
+        assertEquals(anonymous, table.resolve("/members/me", RateLimitPolicyTable.ANONYMOUS_ROLE,
+                RateLimitProperties.ANONYMOUS));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 등급을 참조하는 정책은 시작 시 거부")
+    void constructor_ShouldRejectUnknownKeyClass() {
+        // given
+        rateLimitProperties.getPolicies().add(policy("/members/**", List.of(), "unknown"));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitPolicyTable(rateLimitProperties));
+    }
+
+    @Test
+    @DisplayName("보충량이 0이거나 보충 주기가 0인 등급은 거부")
+    void constructor_ShouldRejectNonPositiveRefill() {
+        // given
+        rateLimitProperties.getClasses().put("recipe", new RateLimitProperties.BucketProperties(
+                10, 0, Duration.ofSeconds(1)));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitPolicyTable(rateLimitProperties));
+        rateLimitProperties.getClasses().put("recipe", new RateLimitProperties.BucketProperties(
+                10, 10, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitPolicyTable(rateLimitProperties));
+    }
+
+    private static RateLimitProperties.PolicyProperties policy(String pattern, List<String> roles, String keyClass) {
+        RateLimitProperties.PolicyProperties policy = new RateLimitProperties.PolicyProperties();
+        policy.setPattern(pattern);
+        policy.setRoles(roles);
+        policy.setKeyClass(keyClass);
+        return policy;
+    }
+}
@@ -0,0 +1,64 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RedisCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(2, 1000, now::get);
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 호출을 차단")
+    void onFailure_ShouldOpen_WhenThresholdReached() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // then
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 한 번의 시험 호출만 허용하고 성공 시 복구")
+    void tryAcquirePermission_ShouldAllowSingleTrial_AfterOpenDuration() {
+        // given
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        now.addAndGet(1000);
+
+        // when
+        boolean trial = circuitBreaker.tryAcquirePermission();
+        boolean concurrent = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertTrue(trial);
+        assertFalse(concurrent);
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 차단")
+    void onFailure_ShouldReopen_WhenTrialFails() {
+        // given
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        now.addAndGet(1000);
+        circuitBreaker.tryAcquirePermission();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+}
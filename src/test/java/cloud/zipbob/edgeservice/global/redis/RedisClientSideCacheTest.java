@@ -0,0 +1,154 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisClientSideCacheTest {
+
+    @Mock
+    private StatefulRedisConnection<String, byte[]> connection;
+
+    @Mock
+    private RedisCommands<String, byte[]> commands;
+
+    @Mock
+    private PushMessage pushMessage;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisClientSideCache redisClientSideCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(connection.sync()).thenReturn(commands);
+        meterRegistry = new SimpleMeterRegistry();
+        RedisResilienceProperties redisResilienceProperties = new RedisResilienceProperties();
+        redisClientSideCache = new RedisClientSideCache(new RedisClientCacheProperties(), new RedisProperties(),
+                redisResilienceProperties, new RedisRoundTrips(mock(StringRedisTemplate.class), meterRegistry,
+                redisResilienceProperties), meterRegistry);
+        redisClientSideCache.connect(connection);
+    }
+
+    @Test
+    @DisplayName("추적 중인 키는 한 번만 Redis에서 읽고 이후에는 로컬 사본을 반환")
+    void get_ShouldServeRepeatedReadsLocally() {
+        // given
+        when(commands.get("refresh:a")).thenReturn(bytes("value"));
+
+        // when
+        byte[] first = redisClientSideCache.get("refresh:a");
+        byte[] second = redisClientSideCache.get("refresh:a");
+
+        // then
+        assertArrayEquals(bytes("value"), first);
+        assertArrayEquals(bytes("value"), second);
+        verify(commands).clientTracking(any(TrackingArgs.class));
+        verify(commands, times(1)).get("refresh:a");
+        assertEquals(1, meterRegistry.counter("redis.client_cache.requests", "result", "hit").count());
+    }
+
+    @Test
+    @DisplayName("서버의 invalidate 메시지를 받으면 해당 키를 다시 읽음")
+    void onPushMessage_ShouldInvalidateKeys() {
+        // given
+        when(commands.get("refresh:a")).thenReturn(bytes("old"), bytes("new"));
+        redisClientSideCache.get("refresh:a");
+        when(pushMessage.getType()).thenReturn("invalidate");
+        when(pushMessage.getContent(any())).thenReturn(Arrays.asList("invalidate", List.of("refresh:a")));
+
+        // when
+        redisClientSideCache.onPushMessage(pushMessage);
+
+        // then
+        assertArrayEquals(bytes("new"), redisClientSideCache.get("refresh:a"));
+    }
+
+    @Test
+    @DisplayName("사본에 없는 키를 읽다 실패가 이어지면 circuit을 열고 이후 읽기는 Redis에 보내지 않음")
+    void get_ShouldGoThroughCircuitBreaker_WhenRedisFails() {
+        // given
+        when(commands.get("refresh:a")).thenThrow(new RedisCommandTimeoutException("timeout"));
+        for (int i = 0; i < 5; i++) {
+            assertThrows(RedisUnavailableException.class, () -> redisClientSideCache.get("refresh:a"));
+        }
+
+        // when
+        assertThrows(RedisUnavailableException.class, () -> redisClientSideCache.get("refresh:a"));
+
+        // then
+        verify(commands, times(5)).get("refresh:a");
+        assertEquals(5, meterRegistry.counter("redis.calls", "result", "timeout").count());
+        assertEquals(1, meterRegistry.counter("redis.calls", "result", "rejected").count());
+    }
+
+    @Test
+    @DisplayName("tracking 연결은 기본 Redis 연결과 같은 계정, ssl, timeout 설정을 사용")
+    void redisUri_ShouldFollowRedisProperties() {
+        // given
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setHost("redis.internal");
+        redisProperties.setPort(6380);
+        redisProperties.setDatabase(2);
+        redisProperties.setUsername("edge");
+        redisProperties.setPassword("secret");
+        redisProperties.getSsl().setEnabled(true);
+        redisProperties.setTimeout(Duration.ofMillis(300));
+        RedisResilienceProperties redisResilienceProperties = new RedisResilienceProperties();
+        RedisClientSideCache cache = new RedisClientSideCache(new RedisClientCacheProperties(), redisProperties,
+                redisResilienceProperties, new RedisRoundTrips(mock(StringRedisTemplate.class), meterRegistry,
+                redisResilienceProperties), meterRegistry);
+
+        // when
+        RedisURI uri = cache.redisUri();
+
+        // then
+        assertEquals("redis.internal", uri.getHost());
+        assertEquals(6380, uri.getPort());
+        assertEquals(2, uri.getDatabase());
+        assertEquals("edge", uri.getUsername());
+        assertArrayEquals("secret".toCharArray(), uri.getPassword());
+        assertTrue(uri.isSsl());
+        assertEquals(Duration.ofMillis(300), uri.getTimeout());
+    }
+
+    @Test
+    @DisplayName("설정된 prefix의 키만 추적")
+    void tracks_ShouldMatchConfiguredPrefixes() {
+        // when & then
+        assertTrue(redisClientSideCache.tracks("refresh:test@example.com"));
+        assertTrue(redisClientSideCache.tracks("memberInfoCache::1"));
+        assertFalse(redisClientSideCache.tracks("rate_limit:member:1"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
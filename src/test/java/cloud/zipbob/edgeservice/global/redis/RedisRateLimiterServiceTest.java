@@ -0,0 +1,95 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class RedisRateLimiterServiceTest {
+
+    private static final RateLimitClass MEMBER =
+            new RateLimitClass(RateLimitProperties.MEMBER, 100, 100, Duration.ofSeconds(1));
+    private static final RateLimitClass ANONYMOUS =
+            new RateLimitClass(RateLimitProperties.ANONYMOUS, 50, 50, Duration.ofSeconds(1));
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisResilienceProperties redisResilienceProperties;
+    private RedisRateLimiterService redisRateLimiterService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        redisResilienceProperties = new RedisResilienceProperties();
+        redisRateLimiterService = new RedisRateLimiterService(new RedisRoundTrips(stringRedisTemplate,
+                new SimpleMeterRegistry(), redisResilienceProperties), redisResilienceProperties);
+    }
+
+    @Test
+    @DisplayName("키 분류별 bucket 설정으로 판정하고 남은 요청 수와 초기화 시간을 반환")
+    void tryAcquire_ShouldReturnRemainingQuota() {
+        // given
+        RateLimitClass member = new RateLimitClass(RateLimitProperties.MEMBER, 20, 10, Duration.ofSeconds(1));
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("rate_limit:member:test@example.com")),
+                eq("20"), eq("10"), eq("1000"), eq("1"))).thenReturn(List.of(1L, 19L, 100L, 0L));
+
+        // when
+        RateLimitDecision decision = redisRateLimiterService.tryAcquire(member, "test@example.com");
+
+        // then
+        assertTrue(decision.allowed());
+        assertEquals(20, decision.limit());
+        assertEquals(19, decision.remaining());
+        assertEquals(1, decision.resetSeconds());
+    }
+
+    @Test
+    @DisplayName("bucket이 비어 있으면 거부하고 재시도까지 남은 시간을 반환")
+    void tryAcquire_ShouldReject_WhenBucketIsEmpty() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("rate_limit:anonymous:127.0.0.1")),
+                any(), any(), any(), any())).thenReturn(List.of(0L, 0L, 1000L, 20L));
+
+        // when
+        RateLimitDecision decision = redisRateLimiterService.tryAcquire(ANONYMOUS, "127.0.0.1");
+
+        // then
+        assertFalse(decision.allowed());
+        assertEquals(0, decision.remaining());
+        assertEquals(1, decision.retryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("Redis를 쓸 수 없으면 설정에 따라 허용하거나 거부")
+    void tryAcquire_ShouldFollowFailureMode_WhenRedisIsUnavailable() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), any(List.class), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        RateLimitDecision failOpen = redisRateLimiterService.tryAcquire(MEMBER, "1");
+        redisResilienceProperties.getOperations().put(RedisResilienceProperties.RATE_LIMIT,
+                RedisResilienceProperties.FailureMode.FAIL_CLOSED);
+        RateLimitDecision failClosed = redisRateLimiterService.tryAcquire(MEMBER, "1");
+
+        // then
+        assertTrue(failOpen.allowed());
+        assertFalse(failClosed.allowed());
+    }
+}
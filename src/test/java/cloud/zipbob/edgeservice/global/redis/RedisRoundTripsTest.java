@@ -0,0 +1,133 @@
+package cloud.zipbob.edgeservice.global.redis;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisRoundTripsTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisRoundTrips redisRoundTrips;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        redisRoundTrips = new RedisRoundTrips(stringRedisTemplate, meterRegistry, new RedisResilienceProperties());
+    }
+
+    @Test
+    @DisplayName("요청 안에서 발생한 Redis 왕복 횟수를 요청이 끝날 때 기록")
+    void endRequest_ShouldRecordRoundTripsOfRequest() {
+        // given
+        when(valueOperations.get("key")).thenReturn("value");
+        redisRoundTrips.beginRequest();
+
+        // when
+        String value = redisRoundTrips.call(redis -> redis.opsForValue().get("key"));
+        redisRoundTrips.pipeline(connection -> {
+            connection.get("first");
+            connection.get("second");
+        });
+        int roundTrips = redisRoundTrips.currentRequestRoundTrips();
+        redisRoundTrips.endRequest();
+
+        // then
+        assertEquals("value", value);
+        assertEquals(2, roundTrips);
+        DistributionSummary summary = meterRegistry.get("redis.round_trips").summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+    }
+
+    @Test
+    @DisplayName("요청 밖에서의 Redis 호출은 요청 지표에 포함하지 않음")
+    void call_ShouldNotRecord_WhenOutsideRequest() {
+        // when
+        redisRoundTrips.call(redis -> redis.opsForValue().get("key"));
+
+        // then
+        assertEquals(0, redisRoundTrips.currentRequestRoundTrips());
+        assertEquals(0, meterRegistry.get("redis.round_trips").summary().count());
+    }
+
+    @Test
+    @DisplayName("Redis 실패가 이어지면 circuit을 열고 이후 호출은 Redis에 보내지 않음")
+    void call_ShouldRejectWithoutCallingRedis_WhenCircuitIsOpen() {
+        // given
+        when(valueOperations.get("key")).thenThrow(new QueryTimeoutException("timeout"));
+        for (int i = 0; i < 5; i++) {
+            assertThrows(RedisUnavailableException.class,
+                    () -> redisRoundTrips.call(redis -> redis.opsForValue().get("key")));
+        }
+
+        // when
+        assertThrows(RedisUnavailableException.class,
+                () -> redisRoundTrips.call(redis -> redis.opsForValue().get("key")));
+
+        // then
+        assertEquals(RedisCircuitBreaker.State.OPEN, redisRoundTrips.circuitState());
+        assertEquals(5, meterRegistry.counter("redis.calls", "result", "timeout").count());
+        assertEquals(1, meterRegistry.counter("redis.calls", "result", "rejected").count());
+        verify(valueOperations, times(5)).get("key");
+    }
+
+    @Test
+    @DisplayName("pipeline script는 EVALSHA로 보내고 NOSCRIPT면 circuit 실패 없이 EVAL로 다시 보냄")
+    void pipelineScript_ShouldFallBackToEval_WhenScriptIsNotLoaded() {
+        // given
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        RedisScript<Long> script = RedisScript.of("return 1", Long.class);
+        List<String[]> calls = List.<String[]>of(new String[]{"key", "1"});
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+                    throw new RedisPipelineException(
+                            new RedisSystemException("NOSCRIPT No matching script. Please use EVAL.", null));
+                })
+                .thenAnswer(invocation -> {
+                    invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+                    return List.of(1L);
+                });
+
+        // when
+        List<Object> results = redisRoundTrips.pipelineScript(script, 1, calls);
+
+        // then
+        assertEquals(List.of(1L), results);
+        verify(connection).evalSha(script.getSha1(), ReturnType.INTEGER, 1, "key", "1");
+        verify(connection).eval("return 1", ReturnType.INTEGER, 1, "key", "1");
+        assertEquals(0, meterRegistry.counter("redis.calls", "result", "failure").count());
+        assertEquals(RedisCircuitBreaker.State.CLOSED, redisRoundTrips.circuitState());
+    }
+}
@@ -0,0 +1,132 @@
+package cloud.zipbob.edgeservice.global.redis.codec;
+
+import cloud.zipbob.edgeservice.domain.member.response.MyInfoResponse;
+import cloud.zipbob.edgeservice.domain.member.response.MyInfoResponseCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactRedisSerializerTest {
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(
+            List.of(new MyInfoResponseCodec()), RedisCodecProperties.WriteFormat.COMPACT);
+
+    @Test
+    @DisplayName("문자열은 태그 없이 UTF-8 그대로 저장")
+    void serialize_ShouldWriteRawUtf8_ForPlainString() {
+        // when
+        byte[] bytes = serializer.serialize("집밥 refresh-token");
+
+        // then
+        assertArrayEquals("집밥 refresh-token".getBytes(StandardCharsets.UTF_8), bytes);
+        assertEquals("집밥 refresh-token", serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("JSON으로 오인될 수 있는 문자열은 태그를 붙여 그대로 복원")
+    void serialize_ShouldTagString_WhenItLooksLikeJson() {
+        // when
+        byte[] bytes = serializer.serialize("{\"not\":\"json\"}");
+
+        // then
+        assertEquals(CompactRedisSerializer.STRING_TAG, bytes[0]);
+        assertEquals("{\"not\":\"json\"}", serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("등록된 DTO는 JSON보다 작은 바이너리로 왕복")
+    void serialize_ShouldUseBinaryCodec_ForRegisteredType() {
+        // given
+        MyInfoResponse response = new MyInfoResponse(1L, "test@example.com", null);
+
+        // when
+        byte[] bytes = serializer.serialize(response);
+        MyInfoResponse restored = (MyInfoResponse) serializer.deserialize(bytes);
+
+        // then
+        assertEquals(CompactRedisSerializer.BINARY_TAG, bytes[0]);
+        assertTrue(bytes.length < new GenericJackson2JsonRedisSerializer().serialize(response).length);
+        assertEquals(1L, restored.getId());
+        assertEquals("test@example.com", restored.getEmail());
+        assertNull(restored.getNickname());
+    }
+
+    @Test
+    @DisplayName("벤치마크 payload 기준 바이너리 값은 JSON의 절반보다 작음")
+    void serialize_ShouldBeLessThanHalfOfJson_ForBenchmarkPayload() {
+        // given
+        MyInfoResponse response = new MyInfoResponse(1L, "benchmark@zipbob.cloud", "benchmark");
+
+        // when
+        byte[] compact = serializer.serialize(response);
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(response);
+
+        // then
+        assertEquals(48, compact.length);
+        assertTrue(compact.length * 2 < json.length);
+    }
+
+    @Test
+    @DisplayName("만료 시각과 함께 저장한 값은 안쪽 값의 형식을 유지한 채 왕복")
+    void serialize_ShouldWrapInnerValue_ForExpiringValue() {
+        // given
+        MyInfoResponse response = new MyInfoResponse(1L, "test@example.com", "tester");
+        ExpiringValue expiring = new ExpiringValue(response, 1_700_000_000_000L);
+
+        // when
+        byte[] bytes = serializer.serialize(expiring);
+        ExpiringValue restored = assertInstanceOf(ExpiringValue.class, serializer.deserialize(bytes));
+
+        // then
+        assertEquals(CompactRedisSerializer.EXPIRING_TAG, bytes[0]);
+        assertEquals(CompactRedisSerializer.BINARY_TAG, bytes[1 + Long.BYTES]);
+        assertEquals(1_700_000_000_000L, restored.expiresAt());
+        assertEquals("tester", assertInstanceOf(MyInfoResponse.class, restored.value()).getNickname());
+        assertEquals("\u0003tag", serializer.deserialize(serializer.serialize("\u0003tag")));
+    }
+
+    @Test
+    @DisplayName("이전 JSON, JDK 직렬화 값도 읽을 수 있음")
+    void deserialize_ShouldReadLegacyFormats() {
+        // given
+        MyInfoResponse response = new MyInfoResponse(1L, "test@example.com", "tester");
+        byte[] legacyJson = new GenericJackson2JsonRedisSerializer().serialize("refresh-token");
+        byte[] legacyJdk = new JdkSerializationRedisSerializer().serialize(response);
+
+        // when
+        Object fromJson = serializer.deserialize(legacyJson);
+        Object fromJdk = serializer.deserialize(legacyJdk);
+
+        // then
+        assertEquals("refresh-token", fromJson);
+        assertEquals("tester", assertInstanceOf(MyInfoResponse.class, fromJdk).getNickname());
+    }
+
+    @Test
+    @DisplayName("코덱이 없는 타입과 JSON 쓰기 모드는 JSON으로 저장")
+    void serialize_ShouldFallBackToJson() {
+        // given
+        CompactRedisSerializer jsonWriter = new CompactRedisSerializer(
+                List.of(new MyInfoResponseCodec()), RedisCodecProperties.WriteFormat.JSON);
+
+        // when
+        byte[] unknown = serializer.serialize(Map.of("key", "value"));
+        byte[] json = jsonWriter.serialize("refresh-token");
+
+        // then
+        assertEquals('{', unknown[0]);
+        assertEquals(Map.of("key", "value"), serializer.deserialize(unknown));
+        assertEquals("refresh-token", serializer.deserialize(json));
+    }
+}